@@ -0,0 +1,32 @@
+package com.example.calendar.bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+// 스프링 없이 @Value / @Autowired 필드 채우기, private 메서드 호출
+final class BenchBeans {
+
+    private BenchBeans() {}
+
+    static void set(Object target, String field, Object value) {
+        try {
+            Field f = target.getClass().getDeclaredField(field);
+            f.setAccessible(true);
+            f.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("cannot set " + field, e);
+        }
+    }
+
+    // private 인스턴스 메서드 (static final 필드에 두면 JIT 가 직접 호출처럼 처리)
+    static MethodHandle method(Class<?> type, String name, Class<?> returnType, Class<?>... params) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                    .findVirtual(type, name, MethodType.methodType(returnType, params));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("cannot find " + name, e);
+        }
+    }
+}
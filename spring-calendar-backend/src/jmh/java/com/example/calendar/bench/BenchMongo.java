@@ -0,0 +1,45 @@
+package com.example.calendar.bench;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+/**
+ * 벤치마크용 로컬 Mongo 연결.
+ * -Dbench.mongo.uri=mongodb://localhost:27017/calendar-bench (기본값)
+ */
+final class BenchMongo implements AutoCloseable {
+
+    private final MongoClient client;
+    final MongoTemplate template;
+    final MongoRepositoryFactory repositories;
+
+    BenchMongo() {
+        String uri = System.getProperty("bench.mongo.uri", "mongodb://localhost:27017/calendar-bench");
+        String db = new ConnectionString(uri).getDatabase();
+
+        client = MongoClients.create(uri);
+        template = new MongoTemplate(client, db == null ? "calendar-bench" : db);
+        repositories = new MongoRepositoryFactory(template);
+    }
+
+    // 컬렉션을 비우고 엔티티에 선언된 인덱스를 생성
+    void reset(Class<?> entity) {
+        template.dropCollection(entity);
+        IndexResolver.create(template.getConverter().getMappingContext())
+                .resolveIndexFor(entity)
+                .forEach(template.indexOps(entity)::ensureIndex);
+    }
+
+    <T> T repository(Class<T> repositoryInterface) {
+        return repositories.getRepository(repositoryInterface);
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.calendar.bench;
+
+import com.example.calendar.entity.Calendar;
+import com.example.calendar.entity.Member;
+import com.example.calendar.repository.CalendarRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 내 캘린더 조회: findAll() + Java 필터 vs owner / members.user 인덱스 조회.
+ * 전체 캘린더 수(calendarCount)에 따른 지연시간 비교. 로컬 Mongo 필요.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CalendarLookupBenchmark {
+
+    private static final String UID = "bench-user";
+    private static final int OWN = 10;
+    private static final int JOINED = 10;
+
+    @Param({"1000", "10000", "100000"})
+    public int calendarCount;
+
+    private BenchMongo mongo;
+    private CalendarRepository calendarRepo;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mongo = new BenchMongo();
+        mongo.reset(Calendar.class);
+        calendarRepo = mongo.repository(CalendarRepository.class);
+
+        List<Calendar> batch = new ArrayList<>();
+        for (int i = 0; i < calendarCount; i++) {
+            Calendar cal = new Calendar();
+            cal.setName("calendar-" + i);
+
+            if (i < OWN) {
+                cal.setOwner(UID);
+            } else {
+                cal.setOwner("user-" + (i % 5000));
+                cal.getMembers().add(new Member("user-" + ((i + 1) % 5000), "viewer"));
+                if (i < OWN + JOINED) {
+                    cal.getMembers().add(new Member(UID, "editor"));
+                }
+            }
+            batch.add(cal);
+
+            if (batch.size() == 5000) {
+                mongo.template.insert(batch, Calendar.class);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            mongo.template.insert(batch, Calendar.class);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mongo.close();
+    }
+
+    @Benchmark
+    public List<Calendar> fullScan() {
+        return calendarRepo.findAll().stream()
+                .filter(c -> Objects.equals(c.getOwner(), UID)
+                        || c.getMembers().stream().anyMatch(m -> Objects.equals(m.getUser(), UID)))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Calendar> indexedLookup() {
+        return calendarRepo.findByOwnerOrMembersUser(UID, UID);
+    }
+
+    @Benchmark
+    public List<Calendar> indexedIdsOnly() {
+        return calendarRepo.findIdsByOwnerOrMember(UID);
+    }
+}
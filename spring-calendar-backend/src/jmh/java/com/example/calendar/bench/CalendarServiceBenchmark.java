@@ -0,0 +1,72 @@
+package com.example.calendar.bench;
+
+import com.example.calendar.entity.Calendar;
+import com.example.calendar.entity.Member;
+import com.example.calendar.service.CalendarService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CalendarService 의 DB 밖 비용.
+ * getUserCalendars: 조회 결과 → role 붙인 Map 변환 (저장소는 메모리 안의 FakeCalendarRepository).
+ * generateHexToken: 공유 링크 토큰 생성.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CalendarServiceBenchmark {
+
+    private static final MethodHandle HEX_TOKEN = BenchBeans.method(
+            CalendarService.class, "generateHexToken", String.class);
+
+    private static final String UID = "bench-user";
+
+    @Param({"10", "100"})
+    public int calendarCount;
+
+    @Param({"5", "50"})
+    public int membersPerCalendar;
+
+    private CalendarService service;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Calendar> calendars = new ArrayList<>();
+        for (int i = 0; i < calendarCount; i++) {
+            Calendar cal = new Calendar();
+            cal.setId("cal-" + i);
+            cal.setName("캘린더 " + i);
+            // 절반은 내 캘린더, 절반은 멤버 목록 끝에 내가 있는 캘린더
+            cal.setOwner(i % 2 == 0 ? UID : "owner-" + i);
+            for (int m = 0; m < membersPerCalendar; m++) {
+                cal.getMembers().add(new Member("member-" + m, m % 2 == 0 ? "viewer" : "editor"));
+            }
+            if (i % 2 == 1) cal.getMembers().add(new Member(UID, "editor"));
+            calendars.add(cal);
+        }
+
+        service = new CalendarService();
+        BenchBeans.set(service, "calendarRepo", new FakeCalendarRepository(calendars).asRepository());
+
+        // 서비스는 예외를 ok:false 로 바꾸므로, 오류 경로를 재지 않도록 한 번 확인
+        Map<String, Object> res = service.getUserCalendars(UID);
+        if (!Boolean.TRUE.equals(res.get("ok")) || ((List<?>) res.get("calendars")).size() != calendarCount) {
+            throw new IllegalStateException("getUserCalendars 준비 실패: " + res);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> getUserCalendars() {
+        return service.getUserCalendars(UID);
+    }
+
+    @Benchmark
+    public String generateHexToken() throws Throwable {
+        return (String) HEX_TOKEN.invokeExact(service);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.calendar.bench;
+
+import com.example.calendar.service.IntervalTree;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 겹치는 일정 확인: 캘린더 일정 전체를 훑기 vs IntervalTree 조회.
+ * 1년에 eventCount 개 일정, 1시간짜리 새 일정과 겹치는지. Mongo 없이 계산만.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConflictCheckBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int eventCount;
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final List<LocalDateTime[]> events = new ArrayList<>();
+    private final IntervalTree tree = new IntervalTree();
+    private final Random random = new Random(7);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < eventCount; i++) {
+            LocalDateTime start = BASE.plusMinutes(random.nextInt(365 * 24 * 60));
+            LocalDateTime end = start.plusMinutes(30 + random.nextInt(90));
+            events.add(new LocalDateTime[]{start, end});
+            tree.insert("e" + i, start, end);
+        }
+    }
+
+    private LocalDateTime nextStart() {
+        return BASE.plusMinutes(random.nextInt(365 * 24 * 60));
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole bh) {
+        LocalDateTime from = nextStart();
+        LocalDateTime to = from.plusHours(1);
+        for (LocalDateTime[] ev : events) {
+            if (ev[0].isBefore(to) && ev[1].isAfter(from)) bh.consume(ev);
+        }
+    }
+
+    @Benchmark
+    public void intervalTree(Blackhole bh) {
+        LocalDateTime from = nextStart();
+        tree.query(from, from.plusHours(1), bh::consume);
+    }
+}
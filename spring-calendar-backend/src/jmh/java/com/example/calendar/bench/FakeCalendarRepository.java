@@ -0,0 +1,101 @@
+package com.example.calendar.bench;
+
+import com.example.calendar.entity.Calendar;
+import com.example.calendar.repository.CalendarRepository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 메모리 안의 CalendarRepository (Mongo 없이 서비스 로직만 잴 때).
+ * CalendarService 가 캘린더 조회 / 권한 확인에 쓰는 메서드만 직접 구현하고,
+ * CalendarRepository 로는 같은 이름 / 인자 수의 메서드로 넘겨주는 프록시를 씌움.
+ */
+final class FakeCalendarRepository {
+
+    private final Map<String, Calendar> calendars = new LinkedHashMap<>();
+
+    FakeCalendarRepository(List<Calendar> initial) {
+        for (Calendar cal : initial) calendars.put(cal.getId(), cal);
+    }
+
+    public List<Calendar> findByOwnerOrMembersUser(String owner, String memberUser) {
+        return calendars.values().stream()
+                .filter(cal -> Objects.equals(cal.getOwner(), owner) || isMember(cal, memberUser))
+                .toList();
+    }
+
+    public Optional<Calendar> findFirstByOwnerOrMembersUser(String owner, String memberUser) {
+        return findByOwnerOrMembersUser(owner, memberUser).stream().findFirst();
+    }
+
+    public List<Calendar> findIdsByOwnerOrMember(String uid) {
+        return findByOwnerOrMembersUser(uid, uid);
+    }
+
+    public Optional<Calendar> findById(String id) {
+        return Optional.ofNullable(calendars.get(id));
+    }
+
+    public Optional<Calendar> findAccessById(String id) {
+        return findById(id);
+    }
+
+    public Optional<Calendar> findByShareToken(String token) {
+        return calendars.values().stream()
+                .filter(cal -> token != null && token.equals(cal.getShareToken()))
+                .findFirst();
+    }
+
+    public boolean existsById(String id) {
+        return calendars.containsKey(id);
+    }
+
+    public long count() {
+        return calendars.size();
+    }
+
+    private static boolean isMember(Calendar cal, String uid) {
+        return cal.getMembers().stream().anyMatch(m -> Objects.equals(m.getUser(), uid));
+    }
+
+    // ⭐ 구현하지 않은 메서드는 어떤 메서드를 여기에 추가해야 하는지 바로 알 수 있게 실패
+    CalendarRepository asRepository() {
+        Map<String, Method> methods = new HashMap<>();
+        for (Method m : FakeCalendarRepository.class.getDeclaredMethods()) {
+            if (Modifier.isPublic(m.getModifiers())) methods.put(m.getName() + "/" + m.getParameterCount(), m);
+        }
+
+        return (CalendarRepository) Proxy.newProxyInstance(
+                CalendarRepository.class.getClassLoader(),
+                new Class<?>[]{CalendarRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "equals" -> proxy == args[0];
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            default -> "FakeCalendarRepository";
+                        };
+                    }
+
+                    Method impl = methods.get(method.getName() + "/" + method.getParameterCount());
+                    if (impl == null) {
+                        throw new IllegalStateException("FakeCalendarRepository 에 " + method.getName()
+                                + " 가 없습니다. 벤치마크 대상 경로가 이 메서드를 쓰면 여기에 구현하세요.");
+                    }
+                    try {
+                        return impl.invoke(this, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
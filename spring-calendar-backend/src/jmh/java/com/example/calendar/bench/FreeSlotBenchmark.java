@@ -0,0 +1,53 @@
+package com.example.calendar.bench;
+
+import com.example.calendar.service.FreeSlotFinder;
+import com.example.calendar.service.FreeSlotFinder.Slot;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 빈 시간 추천: 30일 기간에 eventCount 개 일정 (정렬 안 된 상태, 겹침 포함).
+ * 목표: 수천 건에서 10ms 훨씬 아래. Mongo 없이 계산만.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FreeSlotBenchmark {
+
+    @Param({"1000", "5000", "20000"})
+    public int eventCount;
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 6, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(30);
+
+    private List<Slot> busy;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        busy = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            LocalDateTime start = FROM.plusMinutes(random.nextInt(30 * 24 * 60));
+            busy.add(new Slot(start, start.plusMinutes(15 + random.nextInt(120))));
+        }
+    }
+
+    @Benchmark
+    public List<Slot> findTop3Hour() {
+        return FreeSlotFinder.find(busy, FROM, TO, Duration.ofHours(1),
+                LocalTime.of(9, 0), LocalTime.of(18, 0), 3);
+    }
+
+    @Benchmark
+    public List<Slot> findAllHalfHour() {
+        return FreeSlotFinder.find(busy, FROM, TO, Duration.ofMinutes(30),
+                LocalTime.of(9, 0), LocalTime.of(18, 0), Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.calendar.bench;
+
+import com.example.calendar.entity.Evento;
+import com.example.calendar.ics.IcsReader;
+import com.example.calendar.ics.IcsWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * .ics 파싱 / 쓰기 처리량 (결과 단위 = 일정/초). Mongo 없이 변환만.
+ * 가져오기 전체 처리량은 POST /api/calendars/{id}/ics 응답의 eventsPerSecond 참고.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(IcsBenchmark.EVENTS)
+public class IcsBenchmark {
+
+    static final int EVENTS = 10_000;
+
+    private String ics;
+    private List<Evento> eventos;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        StringBuilder sb = new StringBuilder("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n");
+        eventos = new ArrayList<>(EVENTS);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 6, 9, 0);
+
+        for (int i = 0; i < EVENTS; i++) {
+            sb.append("BEGIN:VEVENT\r\n")
+              .append("UID:bench-").append(i).append("@example.com\r\n")
+              .append("DTSTAMP:20250101T000000Z\r\n")
+              .append("DTSTART;TZID=Asia/Seoul:20250106T090000\r\n")
+              .append("DTEND;TZID=Asia/Seoul:20250106T100000\r\n")
+              .append("SUMMARY:주간 회의 ").append(i).append("\r\n")
+              .append("DESCRIPTION:안건 정리\\, 진행 상황 공유\\n다음 주 계획\r\n")
+              .append(i % 10 == 0 ? "RRULE:FREQ=WEEKLY;COUNT=10\r\n" : "")
+              .append("END:VEVENT\r\n");
+
+            Evento ev = new Evento();
+            ev.setId("bench-" + i);
+            ev.setTitle("주간 회의 " + i);
+            ev.setNotes("안건 정리, 진행 상황 공유\n다음 주 계획");
+            ev.setStart(base.plusHours(i));
+            ev.setEnd(base.plusHours(i + 1));
+            eventos.add(ev);
+        }
+        ics = sb.append("END:VCALENDAR\r\n").toString();
+    }
+
+    @Benchmark
+    public void parse(Blackhole bh) throws IOException {
+        try (IcsReader reader = new IcsReader(new StringReader(ics))) {
+            Evento ev;
+            while ((ev = reader.next()) != null) bh.consume(ev);
+        }
+    }
+
+    @Benchmark
+    public void write(Blackhole bh) throws IOException {
+        Writer sink = new Writer() {
+            @Override public void write(char[] cbuf, int off, int len) { bh.consume(len); }
+            @Override public void write(String str, int off, int len) { bh.consume(len); }
+            @Override public void flush() {}
+            @Override public void close() {}
+        };
+
+        IcsWriter writer = new IcsWriter(sink);
+        writer.begin("bench");
+        for (Evento ev : eventos) writer.write(ev);
+        writer.end();
+    }
+}
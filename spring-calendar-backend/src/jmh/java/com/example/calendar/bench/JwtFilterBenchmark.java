@@ -0,0 +1,86 @@
+package com.example.calendar.bench;
+
+import com.example.calendar.security.JwtAuthenticationFilter;
+import com.example.calendar.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급 / 검증 비용: 요청마다 파서 생성 (이전) vs 재사용 파서 vs 검증 캐시.
+ * cacheMaxSize=0 은 캐시 없이 재사용 파서만 사용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "bench-secret-bench-secret-bench-secret-0123456789";
+
+    @Param({"0", "10000"})
+    public long cacheMaxSize;
+
+    private JwtTokenProvider provider;
+    private JwtAuthenticationFilter filter;
+    private Key key;
+    private String token;
+
+    private final FilterChain chain = (req, res) -> {};
+
+    @Setup(Level.Trial)
+    public void setup() {
+        provider = new JwtTokenProvider();
+        BenchBeans.set(provider, "secretKey", SECRET);
+        BenchBeans.set(provider, "expiration", 3_600_000L);
+        BenchBeans.set(provider, "cacheMaxSize", cacheMaxSize);
+        BenchBeans.set(provider, "meters", new SimpleMeterRegistry());
+        provider.init();
+
+        filter = new JwtAuthenticationFilter();
+        BenchBeans.set(filter, "jwtProvider", provider);
+        BenchBeans.set(filter, "meters", new SimpleMeterRegistry());
+
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        token = provider.createToken("bench-user", "Bench");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return provider.createToken("bench-user", "Bench");
+    }
+
+    // 이전 구현: 요청마다 parserBuilder().build()
+    @Benchmark
+    public Claims legacyValidate() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/events");
+        req.addHeader("x-token", token);
+
+        filter.doFilter(req, new MockHttpServletResponse(), chain);
+        SecurityContextHolder.clearContext();
+
+        return req.getAttribute("uid");
+    }
+}
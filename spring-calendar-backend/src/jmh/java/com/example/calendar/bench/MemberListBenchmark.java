@@ -0,0 +1,63 @@
+package com.example.calendar.bench;
+
+import com.example.calendar.entity.Usuario;
+import com.example.calendar.repository.UsuarioRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멤버 목록 사용자 조회: 멤버마다 findById (N+1) vs $in 한 번 (id/name/email 만).
+ * memberCount 별 지연시간 비교. 로컬 Mongo 필요.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MemberListBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int memberCount;
+
+    private BenchMongo mongo;
+    private UsuarioRepository usuarioRepo;
+    private List<String> ids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mongo = new BenchMongo();
+        mongo.reset(Usuario.class);
+        usuarioRepo = mongo.repository(UsuarioRepository.class);
+
+        List<Usuario> users = new ArrayList<>();
+        for (int i = 0; i <= memberCount; i++) {
+            Usuario u = new Usuario();
+            u.setName("user-" + i);
+            u.setEmail("user-" + i + "@bench.local");
+            u.setPassword("$2a$10$" + "x".repeat(53));
+            users.add(u);
+        }
+
+        ids = usuarioRepo.insert(users).stream().map(Usuario::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mongo.close();
+    }
+
+    @Benchmark
+    public List<Usuario> findByIdPerMember() {
+        List<Usuario> out = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            usuarioRepo.findById(id).ifPresent(out::add);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public List<Usuario> batchedProfiles() {
+        return usuarioRepo.findProfilesByIdIn(ids);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.calendar.bench;
+
+import com.example.calendar.controller.CalendarController;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 명령의 자연어 날짜/시간 해석 (CalendarController.parseNaturalDate).
+ * 입력 형태별로: ISO 날짜, 상대 날짜, 요일, 시간이 없는 문장.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NaturalDateBenchmark {
+
+    private static final MethodHandle PARSE = BenchBeans.method(
+            CalendarController.class, "parseNaturalDate", LocalDateTime.class, String.class, String.class);
+
+    @Param({"2025-03-14|오후 3시", "내일|오전 10시 30분", "다음주 수요일|저녁 7시", "금요일 팀 회의 잡아줘|금요일 팀 회의 잡아줘"})
+    public String input;
+
+    private CalendarController controller;
+    private String dateText;
+    private String timeText;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        controller = new CalendarController();
+        String[] parts = input.split("\\|", 2);
+        dateText = parts[0];
+        timeText = parts[1];
+    }
+
+    @Benchmark
+    public LocalDateTime parseNaturalDate() throws Throwable {
+        return (LocalDateTime) PARSE.invokeExact(controller, dateText, timeText);
+    }
+}
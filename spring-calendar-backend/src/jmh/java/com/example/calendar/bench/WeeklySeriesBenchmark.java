@@ -0,0 +1,98 @@
+package com.example.calendar.bench;
+
+import com.example.calendar.entity.Evento;
+import com.example.calendar.entity.Recurrence;
+import com.example.calendar.repository.EventoRepository;
+import com.example.calendar.service.RecurrenceExpander;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매주 반복 일정 (AI addWeeklyEvents → 시리즈 문서 하나).
+ * seriesWrite: 시리즈 한 건 저장 (prepare + save).
+ * expandAll: 기간 없는 조회처럼 시리즈 전체를 회차로 펼침 (메모리 안).
+ * windowRead: 기간 조회 경로 — 4주 기간과 겹치는 시리즈를 읽고 그 안의 회차만 펼침.
+ * repeatCount 별 지연시간 비교. 로컬 Mongo 필요.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WeeklySeriesBenchmark {
+
+    private static final LocalDateTime FIRST = LocalDateTime.of(2025, 1, 6, 10, 0);
+    private static final String READ_CALENDAR = "bench-read";
+    private static final String WRITE_CALENDAR = "bench-write";
+
+    @Param({"4", "52", "260"})
+    public int repeatCount;
+
+    private BenchMongo mongo;
+    private EventoRepository eventoRepo;
+    private Evento stored;
+    private LocalDateTime windowFrom;
+    private LocalDateTime windowTo;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mongo = new BenchMongo();
+        eventoRepo = mongo.repository(EventoRepository.class);
+
+        // 시리즈 가운데쯤 4주
+        windowFrom = FIRST.plusWeeks(repeatCount / 2).toLocalDate().atStartOfDay();
+        windowTo = windowFrom.plusWeeks(4);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCollection() {
+        mongo.reset(Evento.class);
+        stored = eventoRepo.save(series(READ_CALENDAR));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mongo.close();
+    }
+
+    @Benchmark
+    public Evento seriesWrite() {
+        return eventoRepo.save(series(WRITE_CALENDAR));
+    }
+
+    @Benchmark
+    public List<Evento> expandAll() {
+        return RecurrenceExpander.expand(stored, null, null, RecurrenceExpander.MAX_OCCURRENCES);
+    }
+
+    @Benchmark
+    public List<Evento> windowRead() {
+        List<Evento> out = new ArrayList<>();
+        for (Evento series : eventoRepo
+                .findByCalendarIdInAndRecurrenceIsNotNullAndStartLessThanAndRecurrenceSeriesEndGreaterThan(
+                        List.of(READ_CALENDAR), windowTo, windowFrom)) {
+            out.addAll(RecurrenceExpander.expand(series, windowFrom, windowTo, RecurrenceExpander.MAX_OCCURRENCES));
+        }
+        return out;
+    }
+
+    private Evento series(String calendarId) {
+        Recurrence rule = new Recurrence();
+        rule.setFreq("weekly");
+        rule.setCount(repeatCount);
+
+        Evento ev = new Evento();
+        ev.setTitle("주간 회의");
+        ev.setNotes("");
+        ev.setStart(FIRST);
+        ev.setEnd(FIRST.plusHours(1));
+        ev.setCalendarId(calendarId);
+        ev.setUser("bench-user");
+        ev.setRecurrence(rule);
+
+        RecurrenceExpander.prepare(ev);
+        return ev;
+    }
+}
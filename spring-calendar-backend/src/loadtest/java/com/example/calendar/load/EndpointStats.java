@@ -0,0 +1,68 @@
+package com.example.calendar.load;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 응답 시간 기록. 측정 구간(warmup 이후)의 모든 샘플을 보관 후 정렬해서 백분위 계산.
+ * 지연시간 = 예정된 전송 시각 → 응답 완료 (서버가 밀려서 늦게 보낸 시간까지 포함).
+ */
+final class EndpointStats {
+
+    final String name;
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+    private long dropped;
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long nanos, boolean ok) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        if (!ok) errors++;
+    }
+
+    // max-in-flight 를 넘어서 보내지 못한 요청
+    synchronized void dropped() {
+        dropped++;
+    }
+
+    synchronized Map<String, Object> summary(double seconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+
+        Map<String, Object> s = new LinkedHashMap<>();
+        s.put("endpoint", name);
+        s.put("count", count);
+        s.put("errors", errors);
+        s.put("dropped", dropped);
+        s.put("throughput", round(count / seconds));
+        s.put("p50Ms", millis(percentile(sorted, 0.50)));
+        s.put("p95Ms", millis(percentile(sorted, 0.95)));
+        s.put("p99Ms", millis(percentile(sorted, 0.99)));
+        s.put("maxMs", millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+        return s;
+    }
+
+    // nearest-rank
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 10) / 10.0;
+    }
+}
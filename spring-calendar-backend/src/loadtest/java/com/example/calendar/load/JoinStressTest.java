@@ -0,0 +1,176 @@
+package com.example.calendar.load;
+
+import com.example.calendar.entity.Calendar;
+import com.example.calendar.entity.Member;
+import com.example.calendar.load.Seeder.LoadUser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 멤버 추가 / 삭제 동시성 검증: ./gradlew joinStressTest
+ *
+ * 캘린더 하나에 공유 링크로 load.join.users 명이 동시에 참가 (사용자마다 2번씩)
+ * → members 가 정확히 한 번씩 들어갔는지 확인.
+ * 이어서 절반은 나가고 나머지 절반은 다시 참가를 동시에 → 남은 절반만 그대로 있는지 확인.
+ * 실제 컨트롤러 → CalendarService 경로 (JWT 포함), 하나라도 유실 / 중복되면 실패.
+ */
+public class JoinStressTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        LoadSettings base = LoadSettings.fromSystemProperties();
+        int joiners = Integer.parseInt(System.getProperty("load.join.users", "2000"));
+        if (joiners < 2) {
+            throw new IllegalArgumentException("load.join.users 는 2 이상이어야 합니다.");
+        }
+
+        // owner 1명 + 참가자, 캘린더는 사용자당 1개 / 멤버·일정 없음
+        LoadSettings settings = new LoadSettings(base.mongoUri(), joiners + 1, 1, 0, 0,
+                base.rate(), base.warmup(), base.duration(), base.maxInFlight(), base.aiDelay(),
+                base.mix(), base.appProperties(), base.report());
+
+        try (StubAiServer ai = new StubAiServer(settings.aiDelay());
+             ConfigurableApplicationContext app = LoadTest.start(settings, ai)) {
+
+            String baseUrl = "http://127.0.0.1:" + ((WebServerApplicationContext) app).getWebServer().getPort();
+            MongoTemplate mongo = app.getBean(MongoTemplate.class);
+
+            List<LoadUser> users = new Seeder(app).seed(settings);
+            LoadUser owner = users.get(0);
+            List<LoadUser> members = users.subList(1, users.size());
+            String calendarId = owner.ownCalendars().get(0);
+
+            ExecutorService executor = Executors.newFixedThreadPool(
+                    Math.max(4, Runtime.getRuntime().availableProcessors()));
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+
+            try {
+                JsonNode share = send(client, request(baseUrl + "/api/calendars/" + calendarId + "/share", owner, "POST")).join();
+                String token = share.path("token").asText(null);
+                if (token == null) {
+                    throw new IllegalStateException("공유 링크 생성 실패: " + share);
+                }
+
+                // 1) 모두 동시에 참가 (같은 사용자도 2번)
+                List<HttpRequest> joins = new ArrayList<>();
+                for (LoadUser u : members) {
+                    joins.add(request(baseUrl + "/api/calendars/join/" + token, u, "POST"));
+                    joins.add(request(baseUrl + "/api/calendars/join/" + token, u, "POST"));
+                }
+                int failed = sendAll(client, joins);
+                Set<String> expected = ids(members);
+                boolean joinOk = verify("join", mongo, calendarId, expected, failed);
+
+                // 2) 절반은 나가고, 나머지 절반은 다시 참가
+                int half = members.size() / 2;
+                List<HttpRequest> mixed = new ArrayList<>();
+                for (int i = 0; i < members.size(); i++) {
+                    LoadUser u = members.get(i);
+                    mixed.add(i < half
+                            ? request(baseUrl + "/api/calendars/" + calendarId + "/leave", u, "DELETE")
+                            : request(baseUrl + "/api/calendars/join/" + token, u, "POST"));
+                }
+                failed = sendAll(client, mixed);
+                boolean leaveOk = verify("leave + join", mongo, calendarId,
+                        ids(members.subList(half, members.size())), failed);
+
+                if (!joinOk || !leaveOk) {
+                    throw new IllegalStateException("멤버 변경 유실 / 중복 발생");
+                }
+                System.out.println("join stress: OK");
+            } finally {
+                executor.shutdownNow();
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    // 전부 한꺼번에 보내고 완료 대기 → ok:false / 오류 응답 수
+    private static int sendAll(HttpClient client, List<HttpRequest> requests) {
+        AtomicInteger failed = new AtomicInteger();
+        long t0 = System.nanoTime();
+
+        CompletableFuture.allOf(requests.stream()
+                .map(r -> send(client, r)
+                        .handle((body, err) -> {
+                            if (err != null || !body.path("ok").asBoolean(false)) failed.incrementAndGet();
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new)).join();
+
+        System.out.printf("  %d requests in %.1fs%n", requests.size(), (System.nanoTime() - t0) / 1e9);
+        return failed.get();
+    }
+
+    private static boolean verify(String phase, MongoTemplate mongo, String calendarId,
+                                  Set<String> expected, int failed) {
+        Calendar cal = mongo.findById(calendarId, Calendar.class);
+        List<String> actual = cal == null ? List.of() : cal.getMembers().stream().map(Member::getUser).toList();
+        Set<String> distinct = new HashSet<>(actual);
+
+        int duplicates = actual.size() - distinct.size();
+        Set<String> missing = new HashSet<>(expected);
+        missing.removeAll(distinct);
+        Set<String> unexpected = new HashSet<>(distinct);
+        unexpected.removeAll(expected);
+
+        boolean ok = failed == 0 && duplicates == 0 && missing.isEmpty() && unexpected.isEmpty();
+        System.out.printf("%s: expected=%d members=%d duplicates=%d missing=%d unexpected=%d failedRequests=%d → %s%n",
+                phase, expected.size(), actual.size(), duplicates, missing.size(), unexpected.size(), failed,
+                ok ? "OK" : "FAIL");
+        return ok;
+    }
+
+    private static Set<String> ids(List<LoadUser> users) {
+        Set<String> ids = new HashSet<>();
+        for (LoadUser u : users) ids.add(u.id());
+        return ids;
+    }
+
+    private static HttpRequest request(String url, LoadUser u, String method) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(TIMEOUT)
+                .header("Authorization", "Bearer " + u.token())
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private static CompletableFuture<JsonNode> send(HttpClient client, HttpRequest request) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(res -> {
+                    try {
+                        return res.statusCode() / 100 == 2
+                                ? mapper.readTree(res.body())
+                                : mapper.valueToTree(Map.of("ok", false, "status", res.statusCode()));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.calendar.load;
+
+import com.example.calendar.load.Seeder.LoadUser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 목표 RPS 로 요청을 보내는 open-loop 드라이버.
+ * 요청 i 는 start + i / rate 시각에 보냄 (이전 응답을 기다리지 않음) → 서버가 느려져도 부하가 줄지 않고,
+ * 밀린 시간은 지연시간에 그대로 잡힘.
+ */
+final class LoadDriver {
+
+    /** 엔드포인트 하나: 이름(load.mix 키), 보고서 라벨, 요청 생성 */
+    private record Endpoint(String name, String label, RequestFactory factory) {}
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest create(LoadUser user, long seq) throws JsonProcessingException;
+    }
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final List<LoadUser> users;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final SplittableRandom random = new SplittableRandom(7);
+    private final LocalDateTime seedBase = LocalDate.now().minusDays(30).atTime(8, 0);
+
+    // 동시에 진행 중이던 요청 수 최대값 (느린 서버일수록 커짐)
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    LoadDriver(String baseUrl, List<LoadUser> users) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+    }
+
+    Map<String, EndpointStats> run(LoadSettings settings) throws InterruptedException {
+        List<Endpoint> endpoints = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Integer> e : settings.mix().entrySet()) {
+            if (e.getValue() <= 0) continue;
+            Endpoint ep = endpoint(e.getKey());
+            endpoints.add(ep);
+            weights.add(e.getValue());
+            stats.put(ep.name(), new EndpointStats(ep.label()));
+        }
+
+        int[] cumulative = new int[weights.size()];
+        int total = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            total += weights.get(i);
+            cumulative[i] = total;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(4, Runtime.getRuntime().availableProcessors()));
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+
+        AtomicInteger inFlight = new AtomicInteger();
+        long period = 1_000_000_000L / settings.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+
+        try {
+            for (long seq = 0; ; seq++) {
+                long intended = start + seq * period;
+                if (intended >= end) break;
+
+                long wait = intended - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+
+                int pick = pick(cumulative, random.nextInt(total));
+                EndpointStats st = stats.get(endpoints.get(pick).name());
+                LoadUser user = users.get(random.nextInt(users.size()));
+                boolean measured = intended >= measureFrom;
+
+                if (inFlight.get() >= settings.maxInFlight()) {
+                    if (measured) st.dropped();
+                    continue;
+                }
+
+                HttpRequest request;
+                try {
+                    request = endpoints.get(pick).factory().create(user, seq);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException(e);
+                }
+
+                peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                        .whenComplete((res, err) -> {
+                            long latency = System.nanoTime() - intended;
+                            inFlight.decrementAndGet();
+                            if (measured) st.record(latency, err == null && ok(res));
+                        });
+            }
+
+            // 남은 요청 완료 대기
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        return stats;
+    }
+
+    int peakInFlight() {
+        return peakInFlight.get();
+    }
+
+    // 2xx 이고 서비스 응답이 ok:false 가 아니면 성공
+    private static boolean ok(HttpResponse<String> res) {
+        return res.statusCode() / 100 == 2
+                && !res.body().replace(" ", "").contains("\"ok\":false");
+    }
+
+    private static int pick(int[] cumulative, int r) {
+        for (int i = 0; i < cumulative.length; i++) {
+            if (r < cumulative[i]) return i;
+        }
+        return cumulative.length - 1;
+    }
+
+    private Endpoint endpoint(String name) {
+        return switch (name) {
+            case "login" -> new Endpoint(name, "POST /api/auth",
+                    (u, seq) -> post("/api/auth", null,
+                            Map.of("email", u.email(), "password", Seeder.PASSWORD)));
+
+            case "calendars" -> new Endpoint(name, "GET /api/calendars",
+                    (u, seq) -> get("/api/calendars", u));
+
+            case "members" -> new Endpoint(name, "GET /api/calendars/{id}/members",
+                    (u, seq) -> get("/api/calendars/" + anyCalendar(u) + "/members", u));
+
+            case "events" -> new Endpoint(name, "GET /api/events",
+                    (u, seq) -> {
+                        LocalDateTime from = seedBase.plusDays(random.nextInt(53)).toLocalDate().atStartOfDay();
+                        return get("/api/events?calendarId=" + anyCalendar(u)
+                                + "&from=" + encode(from) + "&to=" + encode(from.plusDays(7)), u);
+                    });
+
+            case "conflicts" -> new Endpoint(name, "GET /api/events/conflicts",
+                    (u, seq) -> {
+                        LocalDateTime from = randomSlot();
+                        return get("/api/events/conflicts?calendarId=" + anyCalendar(u)
+                                + "&from=" + encode(from) + "&to=" + encode(from.plusHours(1)), u);
+                    });
+
+            case "create" -> new Endpoint(name, "POST /api/events",
+                    (u, seq) -> {
+                        LocalDateTime from = randomSlot();
+                        return post("/api/events", u, Map.of(
+                                "title", "부하 생성 " + seq,
+                                "start", from.toString(),
+                                "end", from.plusMinutes(30).toString(),
+                                "calendarId", ownCalendar(u)));
+                    });
+
+            // 메시지를 매번 다르게 → AI 분석 캐시를 거치지 않고 스텁 서버까지 감
+            case "ai" -> new Endpoint(name, "POST /api/calendars/ai/command",
+                    (u, seq) -> post("/api/calendars/ai/command", u, Map.of(
+                            "message", (seq % 4 == 0 ? "추천 " : "부하 회의 ") + seq,
+                            "calendarId", ownCalendar(u))));
+
+            default -> throw new IllegalArgumentException("알 수 없는 load.mix 항목: " + name);
+        };
+    }
+
+    private LocalDateTime randomSlot() {
+        return seedBase.plusDays(random.nextInt(60)).plusMinutes(30L * random.nextInt(20));
+    }
+
+    private String anyCalendar(LoadUser u) {
+        return u.calendars().get(random.nextInt(u.calendars().size()));
+    }
+
+    private String ownCalendar(LoadUser u) {
+        return u.ownCalendars().get(random.nextInt(u.ownCalendars().size()));
+    }
+
+    private HttpRequest get(String path, LoadUser u) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Authorization", "Bearer " + u.token())
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, LoadUser u, Map<String, Object> body) throws JsonProcessingException {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)));
+        if (u != null) b.header("Authorization", "Bearer " + u.token());
+        return b.build();
+    }
+
+    private static String encode(LocalDateTime t) {
+        return URLEncoder.encode(t.toString(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.calendar.load;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. 모두 -Dload.* (gradle 에서는 -Pload.*) 로 바꿀 수 있음.
+ *
+ * load.mongo.uri            mongodb://localhost:27017/calendar-load (시작할 때 비움)
+ * load.users / load.calendars-per-user / load.members-per-calendar / load.events-per-calendar
+ * load.rate                 초당 요청 수 (open loop — 응답을 기다리지 않고 일정 간격으로 보냄)
+ * load.warmup / load.duration
+ * load.max-in-flight        동시에 진행 중인 요청 상한 (넘으면 보내지 않고 dropped 로 집계)
+ * load.ai.delay             스텁 AI 서버 응답 지연
+ * load.mix                  엔드포인트별 비율, 예) login:2,calendars:20,events:40
+ * load.app.*                앱 설정 덮어쓰기, 예) load.app.ai.bulkhead.max-concurrent=50
+ */
+record LoadSettings(String mongoUri,
+                    int users,
+                    int calendarsPerUser,
+                    int membersPerCalendar,
+                    int eventsPerCalendar,
+                    int rate,
+                    Duration warmup,
+                    Duration duration,
+                    int maxInFlight,
+                    Duration aiDelay,
+                    Map<String, Integer> mix,
+                    Map<String, Object> appProperties,
+                    Path report) {
+
+    static final String DEFAULT_MIX =
+            "login:2,calendars:20,members:5,events:40,conflicts:8,create:15,ai:10";
+
+    static LoadSettings fromSystemProperties() {
+        Map<String, Object> app = new LinkedHashMap<>();
+        System.getProperties().forEach((k, v) -> {
+            String key = k.toString();
+            if (key.startsWith("load.app.")) app.put(key.substring("load.app.".length()), v);
+        });
+
+        return new LoadSettings(
+                get("load.mongo.uri", "mongodb://localhost:27017/calendar-load"),
+                Integer.parseInt(get("load.users", "200")),
+                Integer.parseInt(get("load.calendars-per-user", "2")),
+                Integer.parseInt(get("load.members-per-calendar", "3")),
+                Integer.parseInt(get("load.events-per-calendar", "500")),
+                Integer.parseInt(get("load.rate", "200")),
+                DurationStyle.detectAndParse(get("load.warmup", "10s")),
+                DurationStyle.detectAndParse(get("load.duration", "60s")),
+                Integer.parseInt(get("load.max-in-flight", "1000")),
+                DurationStyle.detectAndParse(get("load.ai.delay", "300ms")),
+                parseMix(get("load.mix", DEFAULT_MIX)),
+                app,
+                Path.of(get("load.report", "build/results/loadtest/report.json")));
+    }
+
+    private static String get(String key, String def) {
+        String v = System.getProperty(key);
+        return v == null || v.isBlank() ? def : v.trim();
+    }
+
+    private static Map<String, Integer> parseMix(String text) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : text.split(",")) {
+            String[] kv = part.split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("load.mix 형식 오류: " + part);
+            }
+            mix.put(kv[0].trim(), Integer.parseInt(kv[1].trim()));
+        }
+        return mix;
+    }
+}
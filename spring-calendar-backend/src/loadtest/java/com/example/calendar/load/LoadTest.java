@@ -0,0 +1,138 @@
+package com.example.calendar.load;
+
+import com.example.calendar.CalendarApplication;
+import com.example.calendar.load.Seeder.LoadUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 부하 테스트: ./gradlew loadTest
+ *
+ * 1) /ai/analyze 스텁 서버 시작
+ * 2) 앱을 같은 JVM 에서 임의 포트로 시작 (Mongo = load.mongo.uri, AI = 스텁, 항상 AI 서버로 분석)
+ * 3) 사용자 / 캘린더 / 멤버 / 일정 시드
+ * 4) load.mix 비율대로 load.rate RPS 만큼 실제 HTTP 요청 → 엔드포인트별 p50/p95/p99, 처리량 출력
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        if (settings.users() < 1 || settings.calendarsPerUser() < 1 || settings.rate() < 1) {
+            throw new IllegalArgumentException("load.users, load.calendars-per-user, load.rate 는 1 이상이어야 합니다.");
+        }
+
+        try (StubAiServer ai = new StubAiServer(settings.aiDelay());
+             ConfigurableApplicationContext app = start(settings, ai)) {
+
+            WebServer server = ((WebServerApplicationContext) app).getWebServer();
+            int port = server.getPort();
+
+            long t0 = System.nanoTime();
+            List<LoadUser> users = new Seeder(app).seed(settings);
+            System.out.printf("seed: users=%d calendars=%d events=%d (%.1fs)%n",
+                    settings.users(),
+                    settings.users() * settings.calendarsPerUser(),
+                    (long) settings.users() * settings.calendarsPerUser() * settings.eventsPerCalendar(),
+                    (System.nanoTime() - t0) / 1e9);
+
+            String threads = app.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                    ? "virtual" : "platform";
+            String stack = app.getEnvironment().matchesProfiles("reactive") ? "reactive" : "servlet";
+            // 실제로 뜬 서버 (NettyWebServer / TomcatWebServer) 도 보고서에 남김
+            String serverType = server.getClass().getSimpleName();
+            System.out.printf("load: %d req/s, warmup %ss, measure %ss, port %d, %s on %s / %s threads%n",
+                    settings.rate(), settings.warmup().toSeconds(), settings.duration().toSeconds(),
+                    port, stack, serverType, threads);
+
+            // 힙 / 스레드 최대값은 부하 구간만 (드라이버 포함, 같은 설정끼리 비교용)
+            ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+            ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+
+            LoadDriver driver = new LoadDriver("http://127.0.0.1:" + port, users);
+            Map<String, EndpointStats> stats = driver.run(settings);
+
+            long peakHeap = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(p -> p.getType() == MemoryType.HEAP)
+                    .mapToLong(p -> p.getPeakUsage().getUsed())
+                    .sum();
+            Map<String, Object> runtime = new LinkedHashMap<>();
+            runtime.put("stack", stack);
+            runtime.put("server", serverType);
+            runtime.put("threads", threads);
+            runtime.put("peakInFlight", driver.peakInFlight());
+            runtime.put("peakHeapMb", peakHeap / (1024 * 1024));
+            runtime.put("peakThreads", ManagementFactory.getThreadMXBean().getPeakThreadCount());
+            runtime.put("aiCalls", ai.calls());
+
+            report(settings, stats, runtime);
+        }
+    }
+
+    // 명령행 인자로 넘겨야 application.yml 보다 우선
+    static ConfigurableApplicationContext start(LoadSettings settings, StubAiServer ai) {
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("server.port", 0);
+        props.put("management.server.port", 0);
+        props.put("spring.data.mongodb.uri", settings.mongoUri());
+        props.put("ai.base-url", ai.baseUrl());
+        props.put("ai.intent.mode", "remote");
+        props.put("jwt.secret", "load-test-secret-load-test-secret-0123456789");
+        props.put("jwt.expiration", 24 * 60 * 60 * 1000L);
+        props.putAll(settings.appProperties());
+
+        List<String> args = new ArrayList<>();
+        props.forEach((k, v) -> args.add("--" + k + "=" + v));
+
+        return SpringApplication.run(CalendarApplication.class, args.toArray(String[]::new));
+    }
+
+    private static void report(LoadSettings settings, Map<String, EndpointStats> stats,
+                               Map<String, Object> runtime) throws Exception {
+        double seconds = settings.duration().toMillis() / 1000.0;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (EndpointStats s : stats.values()) {
+            rows.add(s.summary(seconds));
+        }
+
+        System.out.printf("%n%-34s %8s %7s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "dropped", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        long total = 0;
+        for (Map<String, Object> r : rows) {
+            System.out.printf("%-34s %8s %7s %7s %9s %9s %9s %9s %9s%n",
+                    r.get("endpoint"), r.get("count"), r.get("errors"), r.get("dropped"), r.get("throughput"),
+                    r.get("p50Ms"), r.get("p95Ms"), r.get("p99Ms"), r.get("maxMs"));
+            total += ((Number) r.get("count")).longValue();
+        }
+        System.out.printf("%-34s %8d %26.1f%n", "total", total, total / seconds);
+        System.out.printf("동시 요청 최대: %s, 힙 최대: %s MB, 스레드 최대: %s, AI 스텁 호출: %s%n",
+                runtime.get("peakInFlight"), runtime.get("peakHeapMb"), runtime.get("peakThreads"), runtime.get("aiCalls"));
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("rate", settings.rate());
+        out.put("durationSeconds", seconds);
+        out.put("users", settings.users());
+        out.put("calendarsPerUser", settings.calendarsPerUser());
+        out.put("membersPerCalendar", settings.membersPerCalendar());
+        out.put("eventsPerCalendar", settings.eventsPerCalendar());
+        out.put("aiDelayMs", settings.aiDelay().toMillis());
+        out.putAll(runtime);
+        out.put("throughput", Math.round(total / seconds * 10) / 10.0);
+        out.put("endpoints", rows);
+
+        Files.createDirectories(settings.report().toAbsolutePath().getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(settings.report().toFile(), out);
+        System.out.println("report: " + settings.report());
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.calendar.load;
+
+import com.example.calendar.entity.Calendar;
+import com.example.calendar.entity.Evento;
+import com.example.calendar.entity.EventoTombstone;
+import com.example.calendar.entity.Member;
+import com.example.calendar.entity.SyncCounter;
+import com.example.calendar.entity.Usuario;
+import com.example.calendar.feed.CalendarChange;
+import com.example.calendar.security.JwtTokenProvider;
+import com.example.calendar.service.EventSync;
+import com.example.calendar.service.NameGrams;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 데이터: 사용자 → 사용자별 캘린더(멤버 포함) → 캘린더별 일정.
+ * 앱의 Mongo 연결로 insertMany. 일정은 EventSync.stampAll 로 번호를 받아서 /sync 도 정상 동작.
+ */
+final class Seeder {
+
+    static final String PASSWORD = "load-password";
+
+    private static final int EVENT_BATCH = 1000;
+
+    private final MongoTemplate template;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtTokenProvider jwtProvider;
+    private final EventSync sync;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    /** 시드된 사용자: 토큰은 미리 발급 (로그인 부하는 login 엔드포인트로 따로 측정) */
+    record LoadUser(String id, String email, String token, List<String> ownCalendars, List<String> calendars) {}
+
+    Seeder(ApplicationContext context) {
+        template = context.getBean(MongoTemplate.class);
+        passwordEncoder = context.getBean(PasswordEncoder.class);
+        jwtProvider = context.getBean(JwtTokenProvider.class);
+        sync = context.getBean(EventSync.class);
+    }
+
+    List<LoadUser> seed(LoadSettings settings) {
+        // 컬렉션 삭제 대신 비우기 → 시작할 때 만든 인덱스 유지
+        for (Class<?> entity : List.of(Usuario.class, Calendar.class, Evento.class,
+                EventoTombstone.class, SyncCounter.class, CalendarChange.class)) {
+            template.remove(new Query(), entity);
+        }
+
+        // BCrypt 는 느리므로 한 번만 해시해서 모든 사용자에 사용
+        String hash = passwordEncoder.encode(PASSWORD);
+
+        List<Usuario> usuarios = new ArrayList<>(settings.users());
+        for (int i = 0; i < settings.users(); i++) {
+            Usuario u = new Usuario();
+            u.setName("부하 사용자 " + i);
+            u.setEmail("load-" + i + "@example.com");
+            u.setPassword(hash);
+            usuarios.add(u);
+        }
+        template.insert(usuarios, Usuario.class);
+
+        List<List<String>> own = new ArrayList<>();
+        List<List<String>> shared = new ArrayList<>();
+        for (int i = 0; i < usuarios.size(); i++) {
+            own.add(new ArrayList<>());
+            shared.add(new ArrayList<>());
+        }
+
+        // ⭐ 캘린더 + 멤버 (owner 를 뺀 사용자 중 무작위, viewer / editor 반씩)
+        List<Calendar> calendars = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        List<List<Integer>> memberIndexes = new ArrayList<>();
+        for (int i = 0; i < usuarios.size(); i++) {
+            for (int c = 0; c < settings.calendarsPerUser(); c++) {
+                Calendar cal = new Calendar();
+                cal.setName("부하 캘린더 " + i + "-" + c);
+                cal.setNameGrams(NameGrams.index(cal.getName()));
+                cal.setOwner(usuarios.get(i).getId());
+
+                int members = Math.min(settings.membersPerCalendar(), usuarios.size() - 1);
+                List<Integer> picked = new ArrayList<>();
+                while (picked.size() < members) {
+                    int m = random.nextInt(usuarios.size());
+                    if (m == i || picked.contains(m)) continue;
+                    picked.add(m);
+                    cal.getMembers().add(new Member(usuarios.get(m).getId(),
+                            random.nextBoolean() ? "editor" : "viewer"));
+                }
+                calendars.add(cal);
+                owners.add(i);
+                memberIndexes.add(picked);
+            }
+        }
+        template.insert(calendars, Calendar.class);
+
+        for (int k = 0; k < calendars.size(); k++) {
+            Calendar cal = calendars.get(k);
+            own.get(owners.get(k)).add(cal.getId());
+            shared.get(owners.get(k)).add(cal.getId());
+            for (int m : memberIndexes.get(k)) {
+                shared.get(m).add(cal.getId());
+            }
+        }
+
+        // ⭐ 일정: 오늘 기준 ±30일, 근무 시간 중 30~90분
+        LocalDateTime base = LocalDate.now().minusDays(30).atTime(8, 0);
+        for (int k = 0; k < calendars.size(); k++) {
+            Calendar cal = calendars.get(k);
+            String ownerId = cal.getOwner();
+
+            List<Evento> batch = new ArrayList<>(EVENT_BATCH);
+            for (int e = 0; e < settings.eventsPerCalendar(); e++) {
+                LocalDateTime start = base
+                        .plusDays(random.nextInt(60))
+                        .plusMinutes(30L * random.nextInt(20));
+
+                Evento ev = new Evento();
+                ev.setTitle("부하 일정 " + e);
+                ev.setNotes("seed");
+                ev.setStart(start);
+                ev.setEnd(start.plusMinutes(30L + 30L * random.nextInt(3)));
+                ev.setUser(ownerId);
+                ev.setCalendarId(cal.getId());
+                batch.add(ev);
+
+                if (batch.size() == EVENT_BATCH) {
+                    insertEvents(cal.getId(), batch);
+                    batch = new ArrayList<>(EVENT_BATCH);
+                }
+            }
+            insertEvents(cal.getId(), batch);
+        }
+
+        List<LoadUser> users = new ArrayList<>(usuarios.size());
+        for (int i = 0; i < usuarios.size(); i++) {
+            Usuario u = usuarios.get(i);
+            users.add(new LoadUser(u.getId(), u.getEmail(),
+                    jwtProvider.createToken(u.getId(), u.getName()),
+                    List.copyOf(own.get(i)), List.copyOf(shared.get(i))));
+        }
+        return users;
+    }
+
+    private void insertEvents(String calendarId, List<Evento> batch) {
+        if (batch.isEmpty()) return;
+        sync.stampAll(calendarId, batch);
+        template.insert(batch, Evento.class);
+    }
+}
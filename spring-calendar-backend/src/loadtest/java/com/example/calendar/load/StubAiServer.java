@@ -0,0 +1,76 @@
+package com.example.calendar.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * /ai/analyze 스텁. 실제 AI 서버와 같은 형식({"result": "<분석 JSON 문자열>"})으로 응답.
+ * "추천" 으로 시작하는 메시지는 recommend, 나머지는 add (내일 오후 3시).
+ * 응답 전 delay 만큼 대기 → 느린 AI 서버일 때 앱의 bulkhead / 스레드 사용을 볼 수 있음.
+ */
+final class StubAiServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Duration delay;
+    private final AtomicLong calls = new AtomicLong();
+
+    StubAiServer(Duration delay) throws IOException {
+        this.delay = delay;
+        // 스텁이 병목이 되지 않도록: 요청마다 가상 스레드, accept 대기열 넉넉히
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        server.createContext("/ai/analyze", this::analyze);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    long calls() {
+        return calls.get();
+    }
+
+    private void analyze(HttpExchange exchange) throws IOException {
+        calls.incrementAndGet();
+        try (exchange) {
+            Map<?, ?> body = mapper.readValue(exchange.getRequestBody(), Map.class);
+            String message = String.valueOf(body.get("message"));
+
+            Map<String, Object> analysis = message.startsWith("추천")
+                    ? Map.of("action", "recommend", "date", "내일")
+                    : Map.of("action", "add", "title", message, "date", "내일", "time", "오후 3시");
+
+            if (!delay.isZero()) {
+                Thread.sleep(delay.toMillis());
+            }
+
+            byte[] out = mapper.writeValueAsBytes(Map.of("result", mapper.writeValueAsString(analysis)));
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, out.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(out);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
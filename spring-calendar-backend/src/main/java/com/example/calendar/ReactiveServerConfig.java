@@ -0,0 +1,19 @@
+package com.example.calendar;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// reactive 프로필은 Netty 로 실행.
+// spring-boot-starter-web(Tomcat) 도 classpath 에 있으면 Boot 는 reactive 서버로 Tomcat 을 먼저 고르므로 직접 지정
+// (server.port 등은 그대로 적용됨)
+@Configuration
+@Profile("reactive")
+public class ReactiveServerConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.calendar.ai;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * AI 분석 결과 캐시 (LRU + TTL). 키 = 정규화한 메시지.
+ * "내일", "금요일"처럼 오늘 기준으로 해석되는 메시지는 날짜까지 키에 넣어서
+ * 날짜가 바뀌면 이전 결과를 쓰지 않는다.
+ * AI 호출은 캐시 잠금 밖에서 한다 (Caffeine 의 동기 로더는 synchronized 안에서 실행 →
+ * 가상 스레드가 AI 응답을 기다리는 동안 캐리어 스레드를 붙잡음). 같은 메시지 동시 요청은 한 번만 호출.
+ */
+@Component
+public class AiAnalysisCache {
+
+    // 연도까지 있는 날짜 (2025-03-05, 2025년 3월 5일)
+    private static final Pattern ABSOLUTE_DATE =
+            Pattern.compile("\\d{4}\\s*[-./년]\\s*\\d{1,2}\\s*[-./월]\\s*\\d{1,2}");
+
+    // 오늘 기준으로 바뀌는 표현
+    private static final Pattern RELATIVE_DATE = Pattern.compile(
+            "오늘|내일|모레|글피|어제|그저께|요일|주말|평일|이번\\s*주|다음\\s*주|담주|지난\\s*주|이번\\s*달|다음\\s*달"
+                    + "|today|tomorrow|yesterday|next|this");
+
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final Pattern TRAILING_PUNCT = Pattern.compile("[\\s.!?~]+$");
+
+    @Value("${ai.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${ai.cache.ttl:1h}")
+    private Duration ttl;
+
+    @Autowired
+    private MeterRegistry meters;
+
+    private AsyncCache<Key, Map<String, Object>> cache;
+
+    private record Key(LocalDate day, String message) {}
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meters, cache.synchronous(), "ai.analyze");
+        Gauge.builder("ai.cache.hit.ratio", cache, c -> c.synchronous().stats().hitRate())
+                .register(meters);
+    }
+
+    // ⭐ 캐시에 있으면 바로 반환, 없으면 loader(원본 메시지) 호출 후 저장
+    public Map<String, Object> get(String message, Function<String, Map<String, Object>> loader) {
+        CompletableFuture<Map<String, Object>> created = new CompletableFuture<>();
+        CompletableFuture<Map<String, Object>> future = cache.get(key(message), (k, executor) -> created);
+
+        // 처음 요청한 스레드가 직접 로드, 나머지는 결과를 기다림 (실패 / null 이면 캐시에서 빠짐)
+        if (future == created) {
+            try {
+                Map<String, Object> loaded = loader.apply(message);
+                created.complete(loaded == null ? null : Collections.unmodifiableMap(new HashMap<>(loaded)));
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            Map<String, Object> data = future.join();
+            return data == null ? null : new HashMap<>(data);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    public void clear() {
+        cache.synchronous().invalidateAll();
+    }
+
+    static String normalize(String message) {
+        if (message == null) return "";
+        String s = Normalizer.normalize(message, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        s = SPACES.matcher(s).replaceAll(" ").trim();
+        return TRAILING_PUNCT.matcher(s).replaceAll("");
+    }
+
+    private Key key(String message) {
+        String normalized = normalize(message);
+
+        boolean dayIndependent = ABSOLUTE_DATE.matcher(normalized).find()
+                && !RELATIVE_DATE.matcher(normalized).find();
+
+        return new Key(dayIndependent ? null : LocalDate.now(), normalized);
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.calendar.ai;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버(/ai/analyze) 공용 클라이언트.
+ * keep-alive 커넥션 풀 + 타임아웃 + 재시도 + 서킷 브레이커 + 동시 호출 제한(bulkhead).
+ */
+@Component
+public class AiClient {
+
+    private static final TypeReference<Map<String, Object>> RESULT_TYPE = new TypeReference<>() {};
+
+    @Value("${ai.base-url:http://localhost:8000}")
+    private String baseUrl;
+
+    @Value("${ai.pool.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${ai.connect-timeout:1s}")
+    private Duration connectTimeout;
+
+    @Value("${ai.read-timeout:10s}")
+    private Duration readTimeout;
+
+    @Value("${ai.bulkhead.max-concurrent:20}")
+    private int maxConcurrent;
+
+    @Value("${ai.bulkhead.max-wait:100ms}")
+    private Duration maxWait;
+
+    @Value("${ai.circuit-breaker.failure-rate:50}")
+    private float failureRate;
+
+    @Value("${ai.circuit-breaker.open-duration:30s}")
+    private Duration openDuration;
+
+    @Value("${ai.retry.max-attempts:2}")
+    private int maxAttempts;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private MeterRegistry meters;
+
+    private CloseableHttpClient http;
+    private RestClient rest;
+
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+    private Retry retry;
+
+    @PostConstruct
+    public void init() {
+        PoolingHttpClientConnectionManager pool = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        http = HttpClients.custom()
+                .setConnectionManager(pool)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+
+        rest = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(http))
+                .build();
+
+        circuitBreaker = CircuitBreaker.of("ai", CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRate)
+                .slowCallDurationThreshold(readTimeout)
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .waitDurationInOpenState(openDuration)
+                .build());
+
+        bulkhead = Bulkhead.of("ai", BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrent)
+                .maxWaitDuration(maxWait)
+                .build());
+
+        // 연결 실패만 재시도 (읽기 타임아웃, 서킷 오픈, bulkhead 초과는 바로 실패)
+        // 읽기 타임아웃까지 재시도하면 최악 응답 시간이 read-timeout × 시도 횟수가 됨
+        retry = Retry.of("ai", RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .waitDuration(Duration.ofMillis(100))
+                .retryOnException(AiClient::isConnectFailure)
+                .build());
+
+        Gauge.builder("ai.circuit.open", circuitBreaker,
+                        cb -> cb.getState() == CircuitBreaker.State.OPEN ? 1 : 0)
+                .register(meters);
+        Gauge.builder("ai.bulkhead.available", bulkhead,
+                        b -> b.getMetrics().getAvailableConcurrentCalls())
+                .register(meters);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        http.close();
+    }
+
+    // ⭐ 메시지 분석 → AI 가 돌려준 action/title/date/time/... 맵
+    public Map<String, Object> analyze(String message) {
+        Timer.Sample sample = Timer.start(meters);
+        String outcome = "error";
+
+        try {
+            // ⭐ Retry → Bulkhead → CircuitBreaker → post
+            // bulkhead 를 서킷 바깥에 둬서 몰림(BulkheadFullException)이 서킷 실패로 집계되지 않게
+            Supplier<String> call = () -> post(message);
+            call = CircuitBreaker.decorateSupplier(circuitBreaker, call);
+            call = Bulkhead.decorateSupplier(bulkhead, call);
+            call = Retry.decorateSupplier(retry, call);
+
+            Map<String, Object> data = mapper.readValue(call.get(), RESULT_TYPE);
+            outcome = "success";
+            return data;
+
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            outcome = "rejected";
+            throw new AiUnavailableException("AI 서버가 바쁩니다. 잠시 후 다시 시도해 주세요.", e);
+
+        } catch (RestClientException e) {
+            outcome = "unreachable";
+            throw new AiUnavailableException("AI 서버 응답이 없습니다.", e);
+
+        } catch (IOException e) {
+            outcome = "invalid_response";
+            throw new AiUnavailableException("AI 응답을 해석할 수 없습니다.", e);
+
+        } finally {
+            sample.stop(Timer.builder("ai.analyze")
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meters));
+
+            if (!"success".equals(outcome)) {
+                meters.counter("ai.analyze.errors", "reason", outcome).increment();
+            }
+        }
+    }
+
+    // 요청이 서버에 닿기 전 실패(연결 거부 / 연결 타임아웃 / 경로 없음)만 true
+    private static boolean isConnectFailure(Throwable e) {
+        if (!(e instanceof ResourceAccessException)) return false;
+        for (Throwable c = e.getCause(); c != null; c = c.getCause()) {
+            if (c instanceof ConnectException
+                    || c instanceof ConnectTimeoutException
+                    || c instanceof NoRouteToHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String post(String message) {
+        Map<?, ?> response = rest.post()
+                .uri("/ai/analyze")
+                .body(Map.of("message", message == null ? "" : message))
+                .retrieve()
+                .body(Map.class);
+
+        if (response == null || !(response.get("result") instanceof String result)) {
+            throw new AiUnavailableException("AI 응답 형식이 올바르지 않습니다.");
+        }
+        return result;
+    }
+}
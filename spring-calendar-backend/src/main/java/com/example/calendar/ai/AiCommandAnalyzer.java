@@ -0,0 +1,120 @@
+package com.example.calendar.ai;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 명령 분석: 로컬 파서 → 캐시 → AI 서버 순서.
+ * 여러 명령은 전용 스레드 풀에서 동시에 분석 (동시 개수 = ai.batch.parallelism).
+ * spring.threads.virtual.enabled 이면 명령마다 가상 스레드, 동시 개수 / 대기 한도는 세마포어로 동일하게 유지.
+ */
+@Component
+public class AiCommandAnalyzer {
+
+    @Value("${ai.batch.parallelism:8}")
+    private int parallelism;
+
+    @Value("${ai.batch.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private LocalIntentParser localParser;
+
+    @Autowired
+    private AiAnalysisCache aiCache;
+
+    @Autowired
+    private AiClient aiClient;
+
+    private ExecutorService executor;
+
+    // 가상 스레드일 때만: 실행 중 (= 풀 스레드 수), 실행 중 + 대기 (= 스레드 수 + 큐 크기)
+    private Semaphore running;
+    private Semaphore admitted;
+
+    @PostConstruct
+    public void init() {
+        if (virtualThreads) {
+            executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ai-batch-", 0).factory());
+            running = new Semaphore(parallelism);
+            admitted = new Semaphore(parallelism + queueCapacity);
+            return;
+        }
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("ai-batch-"));
+        pool.allowCoreThreadTimeOut(true);
+        executor = pool;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // ⭐ 간단한 명령은 로컬에서 해석, 아니면 (캐시된) AI 분석 결과 사용
+    public Map<String, Object> analyze(String message) {
+        return localParser.parse(message)
+                .orElseGet(() -> aiCache.get(message, aiClient::analyze));
+    }
+
+    // ⭐ 순서대로 future 반환 (풀이 꽉 차면 해당 future 는 예외로 완료)
+    public List<CompletableFuture<Map<String, Object>>> analyzeAll(List<String> messages) {
+        List<CompletableFuture<Map<String, Object>>> futures = new ArrayList<>(messages.size());
+        for (String message : messages) {
+            try {
+                futures.add(submit(message));
+            } catch (RuntimeException e) {
+                futures.add(CompletableFuture.failedFuture(
+                        new AiUnavailableException("AI 명령 처리량을 초과했습니다.", e)));
+            }
+        }
+        return futures;
+    }
+
+    // 가상 스레드: 세마포어로 풀과 같은 동시 개수 / 거절 동작
+    private CompletableFuture<Map<String, Object>> submit(String message) {
+        if (!virtualThreads) {
+            return CompletableFuture.supplyAsync(() -> analyze(message), executor);
+        }
+
+        if (!admitted.tryAcquire()) {
+            throw new RejectedExecutionException("ai-batch 대기 한도 초과");
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                running.acquireUninterruptibly();
+                try {
+                    return analyze(message);
+                } finally {
+                    running.release();
+                    admitted.release();
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            admitted.release();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.calendar.ai;
+
+// AI 서버 호출 실패 (타임아웃 / 서킷 오픈 / 동시 호출 초과)
+public class AiUnavailableException extends RuntimeException {
+
+    public AiUnavailableException(String message) {
+        super(message);
+    }
+
+    public AiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
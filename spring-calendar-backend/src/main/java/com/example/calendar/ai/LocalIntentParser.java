@@ -0,0 +1,146 @@
+package com.example.calendar.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 간단한 명령은 AI 서버 없이 바로 해석.
+ * 예) "내일 오후 3시 회의 추가", "다음주 금요일 14:30 회식 삭제해줘"
+ * 추가/삭제 + 상대 날짜(오늘/내일/모레/다음주/요일) + 시각이 모두 확실할 때만 처리하고,
+ * 조금이라도 애매하면 empty 를 돌려서 AI 서버로 넘긴다.
+ *
+ * ai.intent.mode: hybrid(기본, 로컬 우선) | remote(항상 AI 서버)
+ */
+@Component
+public class LocalIntentParser {
+
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    // 반복/수정/추천/여러 명령 등은 AI 서버로
+    private static final Pattern UNSUPPORTED = Pattern.compile(
+            "매주|매일|매달|매월|반복|마다|수정|변경|옮겨|바꿔|추천|캘린더|그리고|하고\\s|[,?]");
+
+    private static final Pattern ADD = Pattern.compile(
+            "\\s*(?:추가|등록|잡아|넣어)(?:해|해줘|해 줘|줘|주세요|해주세요|하기)?\\s*$");
+
+    private static final Pattern DELETE = Pattern.compile(
+            "\\s*(?:삭제|취소|지워|빼)(?:해|해줘|해 줘|줘|주세요|해주세요|하기)?\\s*$");
+
+    private static final Pattern DATE = Pattern.compile(
+            "(오늘|내일|모레|다음\\s?주\\s?[월화수목금토일](?:요일)?|[월화수목금토일]요일)(?:에)?");
+
+    // 오후 3시 / 오전 10시 30분 / 오후 3시 반 / 14:30
+    private static final Pattern TIME = Pattern.compile(
+            "(오전|오후)?\\s*(\\d{1,2})\\s*(?::\\s*(\\d{2})|시(?:\\s*(\\d{1,2})\\s*분|\\s*(반))?)(?:에)?");
+
+    private static final Pattern OBJECT_PARTICLE = Pattern.compile("(.+?)(?:을|를)$");
+
+    @Value("${ai.intent.mode:hybrid}")
+    private String mode;
+
+    @Autowired
+    private MeterRegistry meters;
+
+    private Counter localCount;
+    private Counter remoteCount;
+
+    @PostConstruct
+    public void init() {
+        localCount = Counter.builder("ai.intent.resolved").tag("source", "local").register(meters);
+        remoteCount = Counter.builder("ai.intent.resolved").tag("source", "remote").register(meters);
+    }
+
+    // ⭐ 확실하면 AI 서버와 같은 형태의 action 맵, 아니면 empty
+    public Optional<Map<String, Object>> parse(String message) {
+        Map<String, Object> data = "remote".equals(mode) ? null : tryParse(message);
+
+        if (data == null) {
+            remoteCount.increment();
+            return Optional.empty();
+        }
+
+        localCount.increment();
+        return Optional.of(data);
+    }
+
+    static Map<String, Object> tryParse(String message) {
+        if (message == null) return null;
+
+        String text = SPACES.matcher(message).replaceAll(" ").trim();
+        if (text.isEmpty() || UNSUPPORTED.matcher(text).find()) return null;
+
+        // 1) 동작 (문장 끝)
+        String action;
+        Matcher m = ADD.matcher(text);
+        if (m.find()) {
+            action = "add";
+        } else if ((m = DELETE.matcher(text)).find()) {
+            action = "delete";
+        } else {
+            return null;
+        }
+        text = text.substring(0, m.start());
+
+        // 2) 날짜 (정확히 하나)
+        Matcher dm = DATE.matcher(text);
+        if (!dm.find()) return null;
+        String date = dm.group(1).replaceAll("다음\\s?주\\s?", "다음주 ");
+        int dateStart = dm.start(), dateEnd = dm.end();
+        if (dm.find()) return null;
+        text = text.substring(0, dateStart) + " " + text.substring(dateEnd);
+
+        // 3) 시각 (정확히 하나)
+        Matcher tm = TIME.matcher(text);
+        if (!tm.find()) return null;
+        String time = toTime(tm.group(1), tm.group(2), tm.group(3) != null ? tm.group(3) : tm.group(4), tm.group(5) != null);
+        int timeStart = tm.start(), timeEnd = tm.end();
+        if (time == null || tm.find()) return null;
+        text = text.substring(0, timeStart) + " " + text.substring(timeEnd);
+
+        // 4) 나머지 = 제목
+        String title = SPACES.matcher(text).replaceAll(" ").trim();
+        Matcher om = OBJECT_PARTICLE.matcher(title);
+        if (om.matches()) title = om.group(1).trim();
+
+        if (title.isEmpty() || title.chars().anyMatch(Character::isDigit)) return null;
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("action", action);
+        data.put("title", title);
+        data.put("date", date);
+        data.put("time", time);
+        data.put("details", "");
+        data.put("repeat", "none");
+        data.put("repeatCount", 1);
+        return data;
+    }
+
+    // HH:mm 으로 변환 (오전/오후 없는 1~12시는 애매하므로 null)
+    private static String toTime(String ampm, String hourText, String minuteText, boolean half) {
+        int hour = Integer.parseInt(hourText);
+        int minute = half ? 30 : minuteText == null ? 0 : Integer.parseInt(minuteText);
+
+        if (ampm == null) {
+            // "15시", "09:30" 처럼 24시간 표기로 확실한 경우만
+            boolean zeroPadded = hourText.length() == 2 && hourText.charAt(0) == '0';
+            if (hour < 13 && !zeroPadded) return null;
+        } else {
+            if (hour < 1 || hour > 12) return null;
+            if ("오후".equals(ampm) && hour < 12) hour += 12;
+            if ("오전".equals(ampm) && hour == 12) hour = 0;
+        }
+
+        if (hour > 23 || minute > 59) return null;
+        return String.format("%02d:%02d", hour, minute);
+    }
+}
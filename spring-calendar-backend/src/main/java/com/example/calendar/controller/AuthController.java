@@ -4,9 +4,8 @@ import com.example.calendar.dto.LoginRequest;
 import com.example.calendar.dto.RegisterRequest;
 import com.example.calendar.service.AuthService;
 
-import jakarta.servlet.http.HttpServletRequest;
-
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 
 import org.springframework.web.bind.annotation.RestController;
@@ -14,8 +13,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestAttribute;
 
 @RestController
+@Profile("!reactive")   // reactive 프로필은 ReactiveAuthController
 @RequestMapping("/api/auth")
 public class AuthController {
 
@@ -37,11 +38,10 @@ public class AuthController {
         );
     }
 
+    // ⭐ JWT 필터가 넣은 uid, name
     @GetMapping("/renew")
-    public ResponseEntity<?> renew(HttpServletRequest req) {
-        String uid = (String) req.getAttribute("uid");
-        String name = (String) req.getAttribute("name");
-
+    public ResponseEntity<?> renew(@RequestAttribute(value = "uid", required = false) String uid,
+                                   @RequestAttribute(value = "name", required = false) String name) {
         return ResponseEntity.ok(service.renew(uid, name));
     }
 }
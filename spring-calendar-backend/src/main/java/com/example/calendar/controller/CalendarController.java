@@ -1,17 +1,36 @@
 package com.example.calendar.controller;
 
+import com.example.calendar.ai.AiCommandAnalyzer;
+import com.example.calendar.entity.Calendar;
+import com.example.calendar.feed.CalendarFeed;
 import com.example.calendar.service.CalendarService;
+import com.example.calendar.service.IcsService;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -19,12 +38,25 @@ import java.time.DayOfWeek;
 import java.time.temporal.TemporalAdjusters;
 
 @RestController
+@Profile("!reactive")   // 서블릿 모드 전용 (SSE 피드 / .ics 스트리밍)
 @RequestMapping("/api/calendars")
 public class CalendarController {
 
     @Autowired
     private CalendarService service;
 
+    @Autowired
+    private AiCommandAnalyzer aiAnalyzer;
+
+    @Autowired
+    private CalendarFeed feed;
+
+    @Autowired
+    private IcsService ics;
+
+    @Value("${ai.batch.max-size:20}")
+    private int maxBatchSize;
+
     @GetMapping
     public ResponseEntity<?> getUserCalendars(HttpServletRequest req) {
         String uid = (String) req.getAttribute("uid");
@@ -126,8 +158,59 @@ public class CalendarController {
     }
 
     @GetMapping("/search/{keyword}")
-    public ResponseEntity<?> search(@PathVariable String keyword) {
-        return ResponseEntity.ok(service.searchCalendars(keyword));
+    public ResponseEntity<?> search(HttpServletRequest req,
+                                    @PathVariable String keyword,
+                                    @RequestParam(defaultValue = "0") int page,
+                                    @RequestParam(defaultValue = "20") int size) {
+
+        String uid = (String) req.getAttribute("uid");
+        return ResponseEntity.ok(service.searchCalendars(uid, keyword, page, size));
+    }
+
+    // ⭐ 변경 피드 (SSE) — 폴링 대신 구독, EventSource 는 ?token= 으로 인증
+    @GetMapping("/{id}/feed")
+    public ResponseEntity<?> subscribe(HttpServletRequest req,
+                                       @PathVariable String id) {
+
+        String uid = (String) req.getAttribute("uid");
+        SseEmitter emitter = feed.subscribe(id, uid);
+
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("ok", false, "msg", "No autorizado"));
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
+    // ⭐ .ics 가져오기: 요청 본문(text/calendar)을 그대로 스트리밍으로 읽음
+    @PostMapping("/{id}/ics")
+    public ResponseEntity<?> importIcs(HttpServletRequest req,
+                                       @PathVariable String id) throws IOException {
+
+        String uid = (String) req.getAttribute("uid");
+        return ResponseEntity.ok(ics.importIcs(uid, id, req.getInputStream()));
+    }
+
+    // ⭐ .ics 내보내기: Mongo 커서에서 바로 응답으로
+    @GetMapping("/{id}/ics")
+    public ResponseEntity<?> exportIcs(HttpServletRequest req,
+                                       @PathVariable String id) {
+
+        String uid = (String) req.getAttribute("uid");
+        Calendar cal = ics.exportable(uid, id);
+
+        if (cal == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("ok", false, "msg", "No autorizado"));
+        }
+
+        StreamingResponseBody body = out -> ics.exportIcs(cal, out);
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "calendar", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(id + ".ics").build().toString())
+                .body(body);
     }
 
     @DeleteMapping("/{id}/leave")
@@ -148,17 +231,68 @@ public ResponseEntity<?> handleAiCommand(HttpServletRequest req,
     String uid = (String) req.getAttribute("uid");
     String message = body.get("message");
 
-    RestTemplate rest = new RestTemplate();
-    String url = "http://localhost:8000/ai/analyze";
+    Map<String, Object> data = aiAnalyzer.analyze(message);
+    Map<String, Object> result = executeCommand(uid, message, body.get("calendarId"), body.get("duration"), data);
+
+    if (result == null) {
+        return ResponseEntity.badRequest().body("알 수 없는 명령: " + data.get("action"));
+    }
+    return ResponseEntity.ok(result);
+}
+
+    // ================================
+    //  AI 명령 여러 개 한 번에
+    //  분석(AI 호출)은 동시에, 실행은 보낸 순서대로
+    // ================================
+@PostMapping("/ai/commands")
+public ResponseEntity<?> handleAiCommands(HttpServletRequest req,
+                                          @RequestBody Map<String, Object> body) {
+
+    String uid = (String) req.getAttribute("uid");
+    String calendarId = body.get("calendarId") instanceof String c ? c : null;
+    Object duration = body.get("duration");
 
-    Map<String, String> requestBody = new HashMap<>();
-    requestBody.put("message", message);
+    if (!(body.get("messages") instanceof List<?> list) || list.isEmpty()) {
+        return ResponseEntity.badRequest().body(Map.of("ok", false, "msg", "messages 가 비어 있습니다."));
+    }
+    if (list.size() > maxBatchSize) {
+        return ResponseEntity.badRequest().body(Map.of("ok", false, "msg", "한 번에 최대 " + maxBatchSize + "개까지 가능합니다."));
+    }
 
-    Map response = rest.postForObject(url, requestBody, Map.class);
-    String cleanJson = (String) response.get("result");
+    List<String> messages = list.stream().map(m -> m == null ? "" : m.toString()).toList();
 
-    ObjectMapper mapper = new ObjectMapper();
-    Map<String, Object> data = mapper.readValue(cleanJson, Map.class);
+    List<CompletableFuture<Map<String, Object>>> analyses = aiAnalyzer.analyzeAll(messages);
+
+    List<Map<String, Object>> results = new ArrayList<>();
+    for (int i = 0; i < messages.size(); i++) {
+        String message = messages.get(i);
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("message", message);
+
+        try {
+            Map<String, Object> data = analyses.get(i).join();
+            Map<String, Object> result = executeCommand(uid, message, calendarId, duration, data);
+            item.put("result", result != null
+                    ? result
+                    : Map.of("ok", false, "msg", "알 수 없는 명령: " + data.get("action")));
+
+        } catch (Exception e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            item.put("result", Map.of("ok", false, "msg", String.valueOf(cause.getMessage())));
+        }
+
+        results.add(item);
+    }
+
+    return ResponseEntity.ok(Map.of("ok", true, "results", results));
+}
+
+    // 분석 결과 실행 (알 수 없는 action 이면 null)
+    // durationFromClient: 추천할 빈 시간 길이 (body.duration, 없으면 AI 가 뽑은 duration, 둘 다 없으면 recommend.duration)
+    private Map<String, Object> executeCommand(String uid, String message,
+                                               String calendarIdFromClient,
+                                               Object durationFromClient,
+                                               Map<String, Object> data) {
 
     String action = (String) data.get("action");
     String title = (String) data.get("title");
@@ -174,7 +308,6 @@ public ResponseEntity<?> handleAiCommand(HttpServletRequest req,
     }
 
     // ✅ calendarId는 "프론트(body)"가 최우선
-    String calendarIdFromClient = body.get("calendarId");
     String calendarIdFromAi = (String) data.get("calendarId");
 
     String calendarId = (calendarIdFromClient != null && !calendarIdFromClient.isBlank())
@@ -193,29 +326,27 @@ public ResponseEntity<?> handleAiCommand(HttpServletRequest req,
     switch (action) {
         case "add":
             if ("weekly".equals(repeat) && repeatCount > 1) {
-                return ResponseEntity.ok(
-                        service.addWeeklyEvents(uid, title, details, eventDateTime, calendarId, repeatCount)
-                );
+                return service.addWeeklyEvents(uid, title, details, eventDateTime, calendarId, repeatCount);
             } else {
-                return ResponseEntity.ok(
-                        service.addEvent(uid, title, details, eventDateTime, calendarId)
-                );
+                return service.addEvent(uid, title, details, eventDateTime, calendarId);
             }
 
         case "update":
-            return ResponseEntity.ok(service.updateEvent(uid, title, details, eventDateTime, calendarId));
+            return service.updateEvent(uid, title, details, eventDateTime, calendarId);
 
         case "delete":
-            return ResponseEntity.ok(service.deleteEvent(uid, title, eventDateTime, calendarId));
+            return service.deleteEvent(uid, title, eventDateTime, calendarId);
 
         case "recommend":
-            return ResponseEntity.ok(service.recommendSchedule(uid));
+            Duration duration = parseDuration(durationFromClient);
+            if (duration == null) duration = parseDuration(data.get("duration"));
+            return service.recommendSchedule(uid, eventDateTime.toLocalDate(), duration);
 
         case "createCalendar":
-            return ResponseEntity.ok(service.createCalendar(uid, title));
+            return service.createCalendar(uid, title);
 
         default:
-            return ResponseEntity.badRequest().body("알 수 없는 명령: " + action);
+            return null;
     }
 }
 
@@ -309,6 +440,37 @@ public ResponseEntity<?> handleAiCommand(HttpServletRequest req,
 }
 
 
+    // ================================
+    //  일정 길이: 숫자(분) / "90" / "1h30m" / "1시간 30분" / "PT1H" → 없거나 해석 못 하면 null
+    // ================================
+    private static final Pattern DURATION_TEXT = Pattern.compile(
+            "(?:(\\d+)\\s*(?:h|시간))?\\s*(?:(\\d+)\\s*(?:m|min|분))?");
+
+    private static Duration parseDuration(Object value) {
+        Duration d = null;
+        try {
+            if (value instanceof Number n) {
+                d = Duration.ofMinutes(n.longValue());
+            } else if (value instanceof String text && !text.isBlank()) {
+                text = text.trim();
+                if (text.matches("\\d+")) {
+                    d = Duration.ofMinutes(Long.parseLong(text));
+                } else if (text.startsWith("PT") || text.startsWith("pt")) {
+                    d = Duration.parse(text);
+                } else {
+                    Matcher m = DURATION_TEXT.matcher(text);
+                    if (m.matches() && (m.group(1) != null || m.group(2) != null)) {
+                        d = Duration.ofHours(m.group(1) == null ? 0 : Long.parseLong(m.group(1)))
+                                .plusMinutes(m.group(2) == null ? 0 : Long.parseLong(m.group(2)));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            return null;
+        }
+        return d == null || d.isNegative() || d.isZero() ? null : d;
+    }
+
     private DayOfWeek extractDayOfWeek(String text) {
         if (text == null) return null;
         if (text.contains("월")) return DayOfWeek.MONDAY;
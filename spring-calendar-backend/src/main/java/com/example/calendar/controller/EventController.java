@@ -3,46 +3,146 @@ package com.example.calendar.controller;
 import com.example.calendar.entity.Evento;
 import com.example.calendar.service.EventService;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @RestController
+@Profile("!reactive")   // reactive 프로필은 ReactiveEventController
 @RequestMapping("/api/events")
 public class EventController {
 
     @Autowired
     private EventService service;
 
+    @Autowired
+    private ObjectMapper mapper;
+
+    // 스트리밍 시 N건마다 flush
+    private static final int STREAM_FLUSH_EVERY = 500;
+
     @GetMapping
     public ResponseEntity<?> getEvents(
             HttpServletRequest req,
-            @RequestParam(required = false) String calendarId
+            @RequestParam(required = false) String calendarId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        String uid = (String) req.getAttribute("uid");
+        return ResponseEntity.ok(service.getEvents(uid, calendarId, from, to));
+    }
+
+    // ⭐ 커서 페이지: 응답의 nextCursor 를 다음 요청의 cursor 로 전달
+    @GetMapping("/page")
+    public ResponseEntity<?> getEventsPage(
+            HttpServletRequest req,
+            @RequestParam(required = false) String calendarId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit
     ) {
         String uid = (String) req.getAttribute("uid");
-        return ResponseEntity.ok(service.getEvents(uid, calendarId));
+        return ResponseEntity.ok(service.getEventsPage(uid, calendarId, from, to, cursor, limit));
+    }
+
+    // ⭐ NDJSON 스트리밍: 한 줄에 일정 하나
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamEvents(
+            HttpServletRequest req,
+            @RequestParam(required = false) String calendarId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        String uid = (String) req.getAttribute("uid");
+        Stream<Evento> eventos = service.streamEvents(uid, calendarId, from, to);
+
+        StreamingResponseBody body = out -> {
+            try (eventos) {
+                Iterator<Evento> it = eventos.iterator();
+                int n = 0;
+                while (it.hasNext()) {
+                    out.write(mapper.writeValueAsBytes(it.next()));
+                    out.write('\n');
+                    if (++n % STREAM_FLUSH_EVERY == 0) {
+                        out.flush();
+                    }
+                }
+                out.flush();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // ⭐ 겹치는 일정 조회 (수정 중인 일정은 excludeId 로 제외)
+    @GetMapping("/conflicts")
+    public ResponseEntity<?> getConflicts(
+            HttpServletRequest req,
+            @RequestParam String calendarId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String excludeId
+    ) {
+        String uid = (String) req.getAttribute("uid");
+        return ResponseEntity.ok(service.getConflicts(uid, calendarId, from, to, excludeId));
+    }
+
+    // ⭐ 변경분 동기화: 응답의 nextToken 을 다음 요청의 token 으로,
+    //    ETag 를 If-None-Match 로 보내면 바뀐 게 없을 때 304
+    @GetMapping("/sync")
+    public ResponseEntity<?> syncEvents(
+            HttpServletRequest req,
+            WebRequest webRequest,
+            @RequestParam String calendarId,
+            @RequestParam(required = false) String token
+    ) {
+        String uid = (String) req.getAttribute("uid");
+
+        String etag = service.syncEtag(uid, calendarId);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder res = ResponseEntity.ok();
+        if (etag != null) res.eTag(etag);
+        return res.body(service.syncEvents(uid, calendarId, token));
     }
 
+    // rejectOnConflict=true 면 겹치는 일정이 있을 때 저장하지 않고 conflicts 반환
     @PostMapping
     public ResponseEntity<?> createEvent(
             HttpServletRequest req,
-            @RequestBody Evento data
+            @RequestBody Evento data,
+            @RequestParam(defaultValue = "false") boolean rejectOnConflict
     ) {
         String uid = (String) req.getAttribute("uid");
-        return ResponseEntity.ok(service.createEvent(uid, data));
+        return ResponseEntity.ok(service.createEvent(uid, data, rejectOnConflict));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<?> updateEvent(
             HttpServletRequest req,
             @PathVariable String id,
-            @RequestBody Evento data
+            @RequestBody Evento data,
+            @RequestParam(defaultValue = "false") boolean rejectOnConflict
     ) {
         String uid = (String) req.getAttribute("uid");
-        return ResponseEntity.ok(service.updateEvent(uid, id, data));
+        return ResponseEntity.ok(service.updateEvent(uid, id, data, rejectOnConflict));
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,49 @@
+package com.example.calendar.controller;
+
+import com.example.calendar.dto.LoginRequest;
+import com.example.calendar.dto.RegisterRequest;
+import com.example.calendar.service.AuthService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * reactive 프로필의 /api/auth (AuthController 와 같은 경로 / 응답).
+ * 사용자 조회(blocking Mongo)와 BCrypt 해시는 이벤트 루프를 막으므로 AuthService 를 boundedElastic 에서 호출.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/auth")
+public class ReactiveAuthController {
+
+    @Autowired
+    private AuthService service;
+
+    @PostMapping("/new")
+    public Mono<Map<String, Object>> register(@RequestBody RegisterRequest req) {
+        return blocking(() -> service.register(req.getName(), req.getEmail(), req.getPassword()));
+    }
+
+    @PostMapping("")
+    public Mono<Map<String, Object>> login(@RequestBody LoginRequest req) {
+        return blocking(() -> service.login(req.getEmail(), req.getPassword()));
+    }
+
+    // ⭐ ReactiveJwtFilter 가 넣은 uid, name
+    @GetMapping("/renew")
+    public Mono<Map<String, Object>> renew(@RequestAttribute(value = "uid", required = false) String uid,
+                                           @RequestAttribute(value = "name", required = false) String name) {
+        return blocking(() -> service.renew(uid, name));
+    }
+
+    // 동기 서비스 호출은 이벤트 루프 밖에서
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.calendar.controller;
+
+import com.example.calendar.entity.Evento;
+import com.example.calendar.service.EventService;
+import com.example.calendar.service.ReactiveEventService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * reactive 프로필의 /api/events (EventController 와 같은 경로 / 응답).
+ * 조회는 reactive Mongo 에서 바로 흘려보내고,
+ * 페이지 / 겹침 / 동기화 / 저장 / 수정 / 삭제는 EventService 를 boundedElastic 에서 호출
+ * (동기화 번호, 구간 인덱스, 변경 피드 처리를 서블릿 모드와 한 곳에서 유지).
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/events")
+public class ReactiveEventController {
+
+    @Autowired
+    private ReactiveEventService reactiveService;
+
+    @Autowired
+    private EventService service;
+
+    // ⭐ Accept: application/x-ndjson 이면 회차로 펼친 일정을 한 줄에 하나씩 흘려보냄 (backpressure),
+    //    아니면 서블릿 모드와 같은 { ok, eventos }
+    @GetMapping
+    public Mono<ResponseEntity<?>> getEvents(
+            @RequestAttribute("uid") String uid,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestParam(required = false) String calendarId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        if (accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE)) {
+            return ndjson(reactiveService.events(uid, calendarId, from, to));
+        }
+        return reactiveService.getEvents(uid, calendarId, from, to).<ResponseEntity<?>>map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/page")
+    public Mono<Map<String, Object>> getEventsPage(
+            @RequestAttribute("uid") String uid,
+            @RequestParam(required = false) String calendarId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return blocking(() -> service.getEventsPage(uid, calendarId, from, to, cursor, limit));
+    }
+
+    // ⭐ NDJSON 스트리밍: 한 줄에 일정 하나 (반복 일정은 시리즈 문서 그대로)
+    @GetMapping("/stream")
+    public Mono<ResponseEntity<?>> streamEvents(
+            @RequestAttribute("uid") String uid,
+            @RequestParam(required = false) String calendarId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return ndjson(reactiveService.stream(uid, calendarId, from, to));
+    }
+
+    @GetMapping("/conflicts")
+    public Mono<Map<String, Object>> getConflicts(
+            @RequestAttribute("uid") String uid,
+            @RequestParam String calendarId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String excludeId
+    ) {
+        return blocking(() -> service.getConflicts(uid, calendarId, from, to, excludeId));
+    }
+
+    // ⭐ ETag 를 If-None-Match 로 보내면 바뀐 게 없을 때 304
+    @GetMapping("/sync")
+    public Mono<ResponseEntity<Map<String, Object>>> syncEvents(
+            @RequestAttribute("uid") String uid,
+            ServerWebExchange exchange,
+            @RequestParam String calendarId,
+            @RequestParam(required = false) String token
+    ) {
+        return blocking(() -> {
+            String etag = service.syncEtag(uid, calendarId);
+            if (etag != null && exchange.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<Map<String, Object>>build();
+            }
+
+            ResponseEntity.BodyBuilder res = ResponseEntity.ok();
+            if (etag != null) res.eTag(etag);
+            return res.body(service.syncEvents(uid, calendarId, token));
+        });
+    }
+
+    @PostMapping
+    public Mono<Map<String, Object>> createEvent(
+            @RequestAttribute("uid") String uid,
+            @RequestBody Evento data,
+            @RequestParam(defaultValue = "false") boolean rejectOnConflict
+    ) {
+        return blocking(() -> service.createEvent(uid, data, rejectOnConflict));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<Map<String, Object>> updateEvent(
+            @RequestAttribute("uid") String uid,
+            @PathVariable String id,
+            @RequestBody Evento data,
+            @RequestParam(defaultValue = "false") boolean rejectOnConflict
+    ) {
+        return blocking(() -> service.updateEvent(uid, id, data, rejectOnConflict));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<Map<String, Object>> deleteEvent(
+            @RequestAttribute("uid") String uid,
+            @PathVariable String id
+    ) {
+        return blocking(() -> service.deleteEvent(uid, id));
+    }
+
+    // 권한 / 기간 확인에서 거절되면 첫 줄을 쓰기 전이므로 { ok:false, msg } + 403 / 400
+    private static Mono<ResponseEntity<?>> ndjson(Mono<Flux<Evento>> events) {
+        return events
+                .<ResponseEntity<?>>map(flux -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(flux))
+                .onErrorResume(ReactiveEventService.Rejected.class, e -> Mono.just(ResponseEntity
+                        .status(e.status())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(Map.of("ok", false, "msg", e.getMessage()))));
+    }
+
+    // 동기 서비스 호출은 이벤트 루프 밖에서
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
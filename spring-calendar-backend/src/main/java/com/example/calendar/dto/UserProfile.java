@@ -0,0 +1,4 @@
+package com.example.calendar.dto;
+
+// 멤버 목록 등에 보여줄 사용자 정보 (비밀번호 제외)
+public record UserProfile(String id, String name, String email) {}
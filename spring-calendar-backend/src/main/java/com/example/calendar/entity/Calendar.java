@@ -1,23 +1,34 @@
 package com.example.calendar.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Document(collection = "calendars")
+// ⭐ 멤버로 속한 캘린더 조회용 (members.user)
+@CompoundIndex(name = "members_user_idx", def = "{ 'members.user': 1 }")
 public class Calendar {
 
     @Id
     private String id;
 
     private String name;
+    @Indexed
     private String owner;     // Usuario _id
     private String shareToken;
 
     private List<Member> members = new ArrayList<>();
 
+    // ⭐ 이름 검색용 n-gram (NameGrams.index(name))
+    @Indexed
+    @JsonIgnore
+    private List<String> nameGrams;
+
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
 
@@ -32,4 +43,8 @@ public class Calendar {
 
     public List<Member> getMembers() { return members; }
     public void setMembers(List<Member> members) { this.members = members; }
+
+    @JsonIgnore
+    public List<String> getNameGrams() { return nameGrams; }
+    public void setNameGrams(List<String> nameGrams) { this.nameGrams = nameGrams; }
 }
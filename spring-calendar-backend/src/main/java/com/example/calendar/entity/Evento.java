@@ -1,10 +1,25 @@
 package com.example.calendar.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDateTime;
 
 @Document(collection = "eventos")
+@CompoundIndexes({
+        // ⭐ 기간(from/to) 조회용 — calendarId + start + end
+        @CompoundIndex(name = "calendar_start_end_idx", def = "{ 'calendarId': 1, 'start': 1, 'end': 1 }"),
+        // ⭐ 반복 일정 기간 조회용
+        @CompoundIndex(name = "calendar_series_end_idx", def = "{ 'calendarId': 1, 'recurrence.seriesEnd': 1 }"),
+        // ⭐ 변경분 동기화용 (version > token 또는 최근 updatedAt)
+        @CompoundIndex(name = "calendar_version_idx", def = "{ 'calendarId': 1, 'version': 1 }"),
+        @CompoundIndex(name = "calendar_updated_idx", def = "{ 'calendarId': 1, 'updatedAt': 1 }"),
+        // ⭐ .ics 다시 가져오기 (UID 로 덮어쓰기)
+        @CompoundIndex(name = "calendar_ics_uid_idx", def = "{ 'calendarId': 1, 'icsUid': 1, 'icsRecurrenceId': 1 }")
+})
 public class Evento {
 
     @Id
@@ -20,6 +35,24 @@ public class Evento {
     private String calendarId;  // Calendar _id
     private String color;
 
+    private Recurrence recurrence;  // null 이면 단일 일정
+
+    private Long version;            // 캘린더 안에서 증가하는 변경 번호 (EventSync.stamp)
+    private LocalDateTime updatedAt;
+
+    private String icsUid;                   // .ics 에서 가져온 일정의 UID
+    private LocalDateTime icsRecurrenceId;   // 반복 일정 한 회차를 바꾼 VEVENT 면 RECURRENCE-ID
+
+    // ⭐ 펼친 회차에만 채움 (저장 X): id = 회차 id, seriesId = 시리즈 문서 _id
+    @Transient
+    private String seriesId;
+    @Transient
+    private LocalDateTime occurrenceStart;
+
+    // ⭐ 요청 본문에 recurrence 가 있었는지 (null 로 지우기 ↔ 필드 생략 구분, 저장 X)
+    @Transient
+    private boolean recurrenceSet;
+
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
 
@@ -43,4 +76,31 @@ public class Evento {
 
     public String getColor() { return color; }
     public void setColor(String color) { this.color = color; }
+
+    public Recurrence getRecurrence() { return recurrence; }
+    public void setRecurrence(Recurrence recurrence) {
+        this.recurrence = recurrence;
+        this.recurrenceSet = true;
+    }
+
+    @JsonIgnore
+    public boolean isRecurrenceSet() { return recurrenceSet; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public String getIcsUid() { return icsUid; }
+    public void setIcsUid(String icsUid) { this.icsUid = icsUid; }
+
+    public LocalDateTime getIcsRecurrenceId() { return icsRecurrenceId; }
+    public void setIcsRecurrenceId(LocalDateTime icsRecurrenceId) { this.icsRecurrenceId = icsRecurrenceId; }
+
+    public String getSeriesId() { return seriesId; }
+    public void setSeriesId(String seriesId) { this.seriesId = seriesId; }
+
+    public LocalDateTime getOccurrenceStart() { return occurrenceStart; }
+    public void setOccurrenceStart(LocalDateTime occurrenceStart) { this.occurrenceStart = occurrenceStart; }
 }
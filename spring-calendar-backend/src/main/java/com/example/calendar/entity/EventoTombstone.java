@@ -0,0 +1,44 @@
+package com.example.calendar.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+// ⭐ 삭제된 일정 기록 (동기화 시 deleted 로 내려줌, 30일 뒤 자동 삭제)
+@Document(collection = "evento_tombstones")
+@CompoundIndex(name = "calendar_version_idx", def = "{ 'calendarId': 1, 'version': 1 }")
+public class EventoTombstone {
+
+    @Id
+    private String id;          // 삭제된 Evento _id
+
+    private String calendarId;
+    private Long version;
+
+    @Indexed(expireAfter = "30d")
+    private LocalDateTime deletedAt;
+
+    public EventoTombstone() {}
+
+    public EventoTombstone(String id, String calendarId, Long version, LocalDateTime deletedAt) {
+        this.id = id;
+        this.calendarId = calendarId;
+        this.version = version;
+        this.deletedAt = deletedAt;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getCalendarId() { return calendarId; }
+    public void setCalendarId(String calendarId) { this.calendarId = calendarId; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(LocalDateTime deletedAt) { this.deletedAt = deletedAt; }
+}
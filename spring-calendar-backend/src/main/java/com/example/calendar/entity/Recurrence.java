@@ -0,0 +1,37 @@
+package com.example.calendar.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Recurrence {
+
+    private String freq;              // daily | weekly | monthly
+    private int interval = 1;         // N일/N주/N개월 마다
+
+    private Integer count;            // 총 횟수 (count 또는 until, 둘 다 없으면 무기한)
+    private LocalDateTime until;      // 마지막 회차 시작 시각 (포함)
+
+    private List<LocalDate> exdates = new ArrayList<>();   // 제외할 날짜
+
+    private LocalDateTime seriesEnd;  // 서버 계산: 마지막 회차 end (기간 조회용)
+
+    public String getFreq() { return freq; }
+    public void setFreq(String freq) { this.freq = freq; }
+
+    public int getInterval() { return interval; }
+    public void setInterval(int interval) { this.interval = interval; }
+
+    public Integer getCount() { return count; }
+    public void setCount(Integer count) { this.count = count; }
+
+    public LocalDateTime getUntil() { return until; }
+    public void setUntil(LocalDateTime until) { this.until = until; }
+
+    public List<LocalDate> getExdates() { return exdates; }
+    public void setExdates(List<LocalDate> exdates) { this.exdates = exdates; }
+
+    public LocalDateTime getSeriesEnd() { return seriesEnd; }
+    public void setSeriesEnd(LocalDateTime seriesEnd) { this.seriesEnd = seriesEnd; }
+}
@@ -0,0 +1,26 @@
+package com.example.calendar.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+// ⭐ 캘린더별 변경 번호 ($inc 로만 증가, Calendar 문서 저장과 분리)
+@Document(collection = "calendar_sync")
+public class SyncCounter {
+
+    @Id
+    private String id;          // Calendar _id
+
+    private long version;
+    private LocalDateTime at;   // 마지막 번호 발급 시각
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    public LocalDateTime getAt() { return at; }
+    public void setAt(LocalDateTime at) { this.at = at; }
+}
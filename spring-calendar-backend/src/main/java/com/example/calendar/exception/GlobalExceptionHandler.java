@@ -1,5 +1,8 @@
 package com.example.calendar.exception;
 
+import com.example.calendar.ai.AiUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -10,6 +13,19 @@ import java.util.Map;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    // AI 서버 장애 → 503
+    @ExceptionHandler(AiUnavailableException.class)
+    public ResponseEntity<?> handleAiUnavailable(AiUnavailableException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of(
+                        "ok", false,
+                        "msg", ex.getMessage()
+                ));
+    }
+
     // RuntimeException → Node.js 스타일로 반환
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<?> handleRuntimeException(RuntimeException ex) {
@@ -24,7 +40,7 @@ public class GlobalExceptionHandler {
     // 기본 Exception 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleException(Exception ex) {
-        ex.printStackTrace(); // 서버 로그용
+        log.error("Unhandled exception", ex);
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of(
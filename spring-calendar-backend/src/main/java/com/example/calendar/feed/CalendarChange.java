@@ -0,0 +1,60 @@
+package com.example.calendar.feed;
+
+import com.example.calendar.entity.Evento;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 캘린더 변경 한 건 (피드로 보내는 delta).
+ * 서비스에서 ApplicationEventPublisher 로 발행하고 CalendarFeed 가 구독자에게 보낸다.
+ * change stream 모드에서는 calendar_changes 컬렉션에 저장해 서버끼리 공유.
+ *
+ * @param event  생성 / 수정된 일정 (event.deleted 나 캘린더 변경이면 null)
+ * @param userId 멤버 변경 대상 사용자
+ * @param origin 발행한 서버 (NODE_ID). 피드로는 보내지 않음
+ */
+@Document(collection = "calendar_changes")
+public record CalendarChange(
+        String calendarId,
+        String type,
+        String eventId,
+        Evento event,
+        String userId,
+        @Indexed(expireAfter = "1h") Instant at,
+        @JsonIgnore String origin
+) {
+
+    // 서버(프로세스)마다 하나 — change stream 으로 돌아온 자기 변경 구분용
+    public static final String NODE_ID = UUID.randomUUID().toString();
+
+    public static final String EVENT_CREATED = "event.created";
+    public static final String EVENT_UPDATED = "event.updated";
+    public static final String EVENT_DELETED = "event.deleted";
+    public static final String EVENTS_IMPORTED = "events.imported";   // 개별 delta 대신 다시 동기화하라는 신호
+    public static final String CALENDAR_UPDATED = "calendar.updated";
+    public static final String CALENDAR_DELETED = "calendar.deleted";
+    public static final String MEMBER_ADDED = "member.added";
+    public static final String MEMBER_UPDATED = "member.updated";
+    public static final String MEMBER_REMOVED = "member.removed";
+
+    public static CalendarChange event(String type, Evento ev) {
+        return new CalendarChange(ev.getCalendarId(), type, ev.getId(), ev, null, Instant.now(), NODE_ID);
+    }
+
+    public static CalendarChange eventDeleted(String calendarId, String eventId) {
+        return new CalendarChange(calendarId, EVENT_DELETED, eventId, null, null, Instant.now(), NODE_ID);
+    }
+
+    public static CalendarChange calendar(String calendarId, String type, String userId) {
+        return new CalendarChange(calendarId, type, null, null, userId, Instant.now(), NODE_ID);
+    }
+
+    @JsonIgnore
+    public boolean isLocal() {
+        return NODE_ID.equals(origin);
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.calendar.feed;
+
+import com.example.calendar.service.CalendarAccess;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 캘린더별 SSE 구독 관리.
+ * 변경이 오면 그 캘린더를 볼 수 있는 구독자에게만 보내고, 권한이 없어진 구독은 닫는다.
+ * 구독자마다 보낼 큐를 두고 전송 스레드에서 순서대로 보낸다 (느린 클라이언트가 저장 요청을 막지 않도록).
+ * 큐가 calendars.feed.max-pending 을 넘으면 연결을 끊음 → 클라이언트는 다시 연결 후 새로 조회.
+ * spring.threads.virtual.enabled 이면 전송은 가상 스레드 (느린 클라이언트가 send-threads 를 차지하지 않음).
+ */
+@Component
+public class CalendarFeed {
+
+    @Value("${calendars.feed.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${calendars.feed.heartbeat:25s}")
+    private Duration heartbeat;
+
+    @Value("${calendars.feed.send-threads:4}")
+    private int sendThreads;
+
+    @Value("${calendars.feed.max-pending:1000}")
+    private int maxPending;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // true 면 MongoChangeRelay 가 change stream 으로 받은 변경만 보냄
+    @Value("${calendars.feed.change-streams:false}")
+    private boolean changeStreams;
+
+    @Autowired
+    private CalendarAccess calendarAccess;
+
+    @Autowired
+    private MeterRegistry meters;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    // 구독자 큐에 넣는 종료 표시
+    private static final Object CLOSE = new Object();
+
+    private ExecutorService sender;
+    private ScheduledExecutorService pinger;
+
+    @PostConstruct
+    public void init() {
+        sender = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("calendar-feed-", 0).factory())
+                : Executors.newFixedThreadPool(sendThreads, new CustomizableThreadFactory("calendar-feed-"));
+        pinger = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("calendar-feed-ping-"));
+        pinger.scheduleAtFixedRate(this::ping,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+
+        Gauge.builder("calendars.feed.subscribers", subscribers,
+                        m -> m.values().stream().mapToInt(Set::size).sum())
+                .register(meters);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pinger.shutdownNow();
+        subscribers.values().forEach(subs -> subs.forEach(s -> s.emitter.complete()));
+        sender.shutdown();
+    }
+
+    // ⭐ 볼 수 있는 캘린더가 아니면 null
+    public SseEmitter subscribe(String calendarId, String uid) {
+        boolean canView = calendarAccess.get(calendarId)
+                .map(a -> a.canView(uid))
+                .orElse(false);
+        if (!canView) return null;
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber sub = new Subscriber(uid, emitter);
+
+        Runnable drop = () -> unsubscribe(calendarId, sub);
+        emitter.onCompletion(drop);
+        emitter.onTimeout(drop);
+        emitter.onError(e -> drop.run());
+
+        subscribers.computeIfAbsent(calendarId, k -> ConcurrentHashMap.newKeySet()).add(sub);
+
+        // 연결 직후 한 번 보내 응답 헤더를 바로 내려보냄
+        sub.offer(SseEmitter.event().name("ready").data(Map.of("calendarId", calendarId)));
+        return emitter;
+    }
+
+    @EventListener
+    public void onChange(CalendarChange change) {
+        if (!changeStreams) dispatch(change);
+    }
+
+    public void dispatch(CalendarChange change) {
+        Set<Subscriber> subs = subscribers.get(change.calendarId());
+        if (subs == null || subs.isEmpty()) return;
+
+        CalendarAccess.Access access = CalendarChange.CALENDAR_DELETED.equals(change.type())
+                ? null
+                : calendarAccess.get(change.calendarId()).orElse(null);
+
+        for (Subscriber sub : subs) {
+            sub.offer(SseEmitter.event().name(change.type()).data(change));
+
+            // 캘린더 삭제 / 멤버에서 빠진 사용자는 마지막 변경을 보낸 뒤 닫음
+            if (access == null || !access.canView(sub.uid)) {
+                subs.remove(sub);
+                sub.close();
+            }
+        }
+    }
+
+    private void ping() {
+        for (Set<Subscriber> subs : subscribers.values()) {
+            for (Subscriber sub : subs) {
+                sub.offer(SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    private void unsubscribe(String calendarId, Subscriber sub) {
+        subscribers.computeIfPresent(calendarId, (k, subs) -> {
+            subs.remove(sub);
+            return subs.isEmpty() ? null : subs;
+        });
+    }
+
+    private final class Subscriber {
+
+        final String uid;
+        final SseEmitter emitter;
+
+        private final Queue<Object> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(String uid, SseEmitter emitter) {
+            this.uid = uid;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed) return;
+            if (size.incrementAndGet() > maxPending) {
+                close();
+                return;
+            }
+            pending.add(event);
+            schedule();
+        }
+
+        // 큐에 남은 것을 보낸 뒤 닫음
+        void close() {
+            pending.add(CLOSE);
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Object next;
+                while ((next = pending.poll()) != null) {
+                    if (next == CLOSE) {
+                        closed = true;
+                        pending.clear();
+                        emitter.complete();
+                        return;
+                    }
+                    size.decrementAndGet();
+                    emitter.send((SseEmitter.SseEventBuilder) next);
+                }
+            } catch (Exception e) {
+                closed = true;
+                pending.clear();
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+                if (!closed && !pending.isEmpty()) schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.calendar.feed;
+
+import com.example.calendar.service.CalendarAccess;
+import com.example.calendar.service.EventIntervalIndex;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * 여러 서버용 (calendars.feed.change-streams=true, replica set 필요).
+ * 변경을 calendar_changes 에 저장하고, change stream 으로 받은 변경을 이 서버의 구독자에게 보낸다.
+ * 저장한 서버도 change stream 으로 받으므로 CalendarFeed 는 로컬 이벤트를 직접 보내지 않음.
+ */
+@Component
+@ConditionalOnProperty(name = "calendars.feed.change-streams", havingValue = "true")
+public class MongoChangeRelay {
+
+    @Autowired
+    private MongoTemplate mongo;
+
+    @Autowired
+    private CalendarFeed feed;
+
+    @Autowired
+    private CalendarAccess calendarAccess;
+
+    @Autowired
+    private EventIntervalIndex intervalIndex;
+
+    private MessageListenerContainer container;
+
+    @PostConstruct
+    public void init() {
+        container = new DefaultMessageListenerContainer(mongo);
+
+        ChangeStreamRequest<CalendarChange> request = ChangeStreamRequest.<CalendarChange>builder(this::onMessage)
+                .collection("calendar_changes")
+                .filter(newAggregation(match(where("operationType").is("insert"))))
+                .build();
+
+        container.register(request, CalendarChange.class);
+        container.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        container.stop();
+    }
+
+    @EventListener
+    public void onChange(CalendarChange change) {
+        mongo.insert(change);
+    }
+
+    private void onMessage(Message<ChangeStreamDocument<Document>, CalendarChange> message) {
+        CalendarChange change = message.getBody();
+        if (change == null) return;
+
+        // ⭐ 다른 서버에서 바뀐 경우 이 서버의 캐시는 아직 예전 값 → 보내기 전에 비움
+        //    (권한 캐시가 남아 있으면 빠진 멤버에게도 계속 보내게 됨)
+        //    이 서버가 쓴 변경은 서비스에서 이미 캐시 / 구간 인덱스를 갱신했으므로 그대로 둠 (트리 재생성 X)
+        if (!change.isLocal()) {
+            if (change.eventId() != null || CalendarChange.EVENTS_IMPORTED.equals(change.type())) {
+                intervalIndex.invalidate(change.calendarId());
+            } else {
+                calendarAccess.invalidate(change.calendarId());
+            }
+        }
+        feed.dispatch(change);
+    }
+}
@@ -0,0 +1,314 @@
+package com.example.calendar.ics;
+
+import com.example.calendar.entity.Evento;
+import com.example.calendar.entity.Recurrence;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * .ics(RFC 5545) 를 VEVENT 하나씩 읽는 파서. 파일 전체를 메모리에 올리지 않는다.
+ * 지원: UID, RECURRENCE-ID, SUMMARY, DESCRIPTION, DTSTART, DTEND, DURATION,
+ *       RRULE(FREQ/INTERVAL/COUNT/UNTIL), EXDATE.
+ * 시각은 TZID / UTC(Z) 를 서버 기본 시간대의 LocalDateTime 으로 바꾸고, TZID 없는 값은 그대로(floating).
+ * 표현할 수 없는 RRULE (BYDAY=MO,WE,FR / BYSETPOS / 31일 매월 등) 은 회차를 지어내지 않고
+ * 첫 회차만 단일 일정으로 가져오며 unsupportedRules() 로 센다.
+ * DTSTART 와 같은 값만 가리키는 BY* (FREQ=WEEKLY;BYDAY=MO 에서 DTSTART 가 월요일 등) 는 그대로 반복으로.
+ */
+public final class IcsReader implements Closeable {
+
+    private final BufferedReader in;
+    private final ZoneId zone;
+
+    private String lookahead;
+    private int skipped;
+    private int unsupportedRules;
+
+    public IcsReader(Reader reader) {
+        this(reader, ZoneId.systemDefault());
+    }
+
+    public IcsReader(Reader reader, ZoneId zone) {
+        this.in = reader instanceof BufferedReader b ? b : new BufferedReader(reader, 64 * 1024);
+        this.zone = zone;
+    }
+
+    // ⭐ 다음 일정 (끝이면 null)
+    public Evento next() throws IOException {
+        String line;
+        while ((line = readLine()) != null) {
+            if (line.equalsIgnoreCase("BEGIN:VEVENT")) {
+                Evento ev = readEvent();
+                if (ev != null) return ev;
+                skipped++;
+            }
+        }
+        return null;
+    }
+
+    // DTSTART 가 없거나 값이 잘못돼 건너뛴 VEVENT 수
+    public int skipped() {
+        return skipped;
+    }
+
+    // 반복 규칙을 표현할 수 없어 첫 회차만 가져온 VEVENT 수
+    public int unsupportedRules() {
+        return unsupportedRules;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private Evento readEvent() throws IOException {
+        Evento ev = new Evento();
+        Duration duration = null;
+        boolean allDay = false;
+        boolean valid = true;
+        Map<String, String> rrule = null;
+        List<LocalDate> exdates = new ArrayList<>();
+
+        int depth = 0;   // VALARM 등 안쪽 컴포넌트
+        String line;
+
+        while ((line = readLine()) != null) {
+            if (line.regionMatches(true, 0, "BEGIN:", 0, 6)) {
+                depth++;
+                continue;
+            }
+            if (line.regionMatches(true, 0, "END:", 0, 4)) {
+                if (depth == 0) break;
+                depth--;
+                continue;
+            }
+            if (depth > 0) continue;
+
+            int colon = valueStart(line);
+            if (colon < 0) continue;
+
+            String head = line.substring(0, colon);
+            String value = line.substring(colon + 1);
+            int semi = head.indexOf(';');
+            String name = (semi < 0 ? head : head.substring(0, semi)).toUpperCase();
+            Map<String, String> params = semi < 0 ? Map.of() : params(head.substring(semi + 1));
+
+            try {
+                switch (name) {
+                    case "UID":
+                        ev.setIcsUid(unescape(value.trim()));
+                        break;
+                    case "RECURRENCE-ID":
+                        ev.setIcsRecurrenceId(dateTime(value, params));
+                        break;
+                    case "SUMMARY":
+                        ev.setTitle(unescape(value));
+                        break;
+                    case "DESCRIPTION":
+                        ev.setNotes(unescape(value));
+                        break;
+                    case "DTSTART":
+                        allDay = isDate(value, params);
+                        ev.setStart(dateTime(value, params));
+                        break;
+                    case "DTEND":
+                        ev.setEnd(dateTime(value, params));
+                        break;
+                    case "DURATION":
+                        duration = duration(value);
+                        break;
+                    case "RRULE":
+                        rrule = params(value);
+                        break;
+                    case "EXDATE":
+                        for (String v : value.split(",")) {
+                            exdates.add(dateTime(v, params).toLocalDate());
+                        }
+                        break;
+                    default:
+                }
+            } catch (RuntimeException e) {
+                valid = false;
+            }
+        }
+
+        if (!valid || ev.getStart() == null) return null;
+
+        if (ev.getEnd() == null) {
+            if (duration != null) ev.setEnd(ev.getStart().plus(duration));
+            else ev.setEnd(allDay ? ev.getStart().plusDays(1) : ev.getStart());
+        }
+        if (ev.getTitle() == null) ev.setTitle("");
+
+        if (rrule != null) {
+            Recurrence r;
+            try {
+                r = recurrence(rrule, exdates, ev.getStart());
+            } catch (RuntimeException e) {
+                r = null;
+            }
+            // 해석 못 하는 RRULE 은 첫 회차만
+            if (r == null) unsupportedRules++;
+            ev.setRecurrence(r);
+        }
+        return ev;
+    }
+
+    // 표현할 수 없는 규칙이면 null
+    private Recurrence recurrence(Map<String, String> rule, List<LocalDate> exdates, LocalDateTime start) {
+        String freq = rule.getOrDefault("FREQ", "");
+        int interval = rule.containsKey("INTERVAL") ? Integer.parseInt(rule.get("INTERVAL")) : 1;
+
+        Recurrence r = new Recurrence();
+        switch (freq) {
+            case "DAILY":   r.setFreq("daily"); break;
+            case "WEEKLY":  r.setFreq("weekly"); break;
+            case "MONTHLY": r.setFreq("monthly"); break;
+            case "YEARLY":  r.setFreq("monthly"); interval *= 12; break;
+            default:        return null;   // HOURLY 등
+        }
+
+        // 매월 / 매년 29~31일: RFC 는 그 날이 없는 달을 건너뛰지만 여기서는 말일로 당겨지므로 가져오지 않음
+        if (!freq.equals("DAILY") && !freq.equals("WEEKLY") && start.getDayOfMonth() > 28) return null;
+
+        for (String key : rule.keySet()) {
+            if (key.startsWith("BY") && !sameAsStart(key, rule.get(key), freq, start)) return null;
+        }
+
+        r.setInterval(Math.max(1, interval));
+        if (rule.containsKey("COUNT")) r.setCount(Integer.parseInt(rule.get("COUNT")));
+        if (rule.containsKey("UNTIL")) r.setUntil(dateTime(rule.get("UNTIL"), Map.of()));
+        r.setExdates(exdates);
+        return r;
+    }
+
+    // BY* 가 DTSTART 에서 이미 정해지는 값 하나뿐이면 규칙이 달라지지 않음
+    private static boolean sameAsStart(String key, String value, String freq, LocalDateTime start) {
+        switch (key) {
+            case "BYDAY":
+                return freq.equals("WEEKLY")
+                        && value.length() == 2
+                        && value.equalsIgnoreCase(start.getDayOfWeek().name().substring(0, 2));
+            case "BYMONTHDAY":
+                return (freq.equals("MONTHLY") || freq.equals("YEARLY"))
+                        && value.equals(String.valueOf(start.getDayOfMonth()));
+            case "BYMONTH":
+                return freq.equals("YEARLY") && value.equals(String.valueOf(start.getMonthValue()));
+            default:
+                return false;   // BYSETPOS, BYWEEKNO, BYHOUR ...
+        }
+    }
+
+    // 줄 이어붙이기 (다음 줄이 공백/탭으로 시작하면 이어지는 줄)
+    private String readLine() throws IOException {
+        String line = lookahead != null ? lookahead : in.readLine();
+        lookahead = null;
+        if (line == null) return null;
+
+        StringBuilder sb = null;
+        String next;
+        while ((next = in.readLine()) != null
+                && !next.isEmpty()
+                && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+            if (sb == null) sb = new StringBuilder(line);
+            sb.append(next, 1, next.length());
+        }
+        lookahead = next;
+
+        return sb == null ? line : sb.toString();
+    }
+
+    // 따옴표 밖의 첫 ':'
+    private static int valueStart(String line) {
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') quoted = !quoted;
+            else if (c == ':' && !quoted) return i;
+        }
+        return -1;
+    }
+
+    // "A=1;B=2" → {A=1, B=2} (키는 대문자)
+    private static Map<String, String> params(String s) {
+        Map<String, String> out = new HashMap<>();
+        for (String p : s.split(";")) {
+            int eq = p.indexOf('=');
+            if (eq > 0) {
+                String v = p.substring(eq + 1);
+                if (v.length() >= 2 && v.charAt(0) == '"') v = v.substring(1, v.length() - 1);
+                out.put(p.substring(0, eq).toUpperCase(), v);
+            }
+        }
+        return out;
+    }
+
+    private static boolean isDate(String value, Map<String, String> params) {
+        return "DATE".equalsIgnoreCase(params.get("VALUE")) || value.length() == 8;
+    }
+
+    // yyyyMMdd / yyyyMMddTHHmmss[Z]
+    private LocalDateTime dateTime(String value, Map<String, String> params) {
+        value = value.trim();
+        LocalDate date = LocalDate.of(
+                Integer.parseInt(value, 0, 4, 10),
+                Integer.parseInt(value, 4, 6, 10),
+                Integer.parseInt(value, 6, 8, 10));
+
+        if (value.length() == 8) return date.atStartOfDay();
+
+        LocalDateTime local = date.atTime(
+                Integer.parseInt(value, 9, 11, 10),
+                Integer.parseInt(value, 11, 13, 10),
+                Integer.parseInt(value, 13, 15, 10));
+
+        if (value.endsWith("Z")) {
+            return local.atOffset(ZoneOffset.UTC).atZoneSameInstant(zone).toLocalDateTime();
+        }
+
+        String tzid = params.get("TZID");
+        if (tzid != null) {
+            try {
+                return local.atZone(ZoneId.of(tzid)).withZoneSameInstant(zone).toLocalDateTime();
+            } catch (DateTimeException e) {
+                return local;   // 모르는 TZID 는 floating 으로
+            }
+        }
+        return local;
+    }
+
+    // PT1H30M, P1D, P2W
+    private static Duration duration(String value) {
+        String v = value.trim();
+        boolean negative = v.startsWith("-");
+        if (negative || v.startsWith("+")) v = v.substring(1);
+
+        Duration d = v.endsWith("W")
+                ? Duration.ofDays(7L * Integer.parseInt(v.substring(1, v.length() - 1)))
+                : Duration.parse(v);
+        return negative ? d.negated() : d;
+    }
+
+    private static String unescape(String s) {
+        if (s.indexOf('\\') < 0) return s;
+
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < s.length()) {
+                char n = s.charAt(++i);
+                sb.append(n == 'n' || n == 'N' ? '\n' : n);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.calendar.ics;
+
+import com.example.calendar.entity.Evento;
+import com.example.calendar.entity.Recurrence;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * .ics 쓰기. 일정 하나씩 바로 Writer 로 내보낸다 (버퍼링은 호출하는 쪽 Writer 에서).
+ * 시각은 저장된 LocalDateTime 그대로 floating 으로, 75바이트 넘는 줄은 접어서 씀.
+ */
+public final class IcsWriter {
+
+    private static final DateTimeFormatter LOCAL = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MAX_LINE_BYTES = 75;
+
+    private final Writer out;
+    private final ZoneId zone;
+    private final String stamp;
+
+    public IcsWriter(Writer out) {
+        this(out, ZoneId.systemDefault());
+    }
+
+    public IcsWriter(Writer out, ZoneId zone) {
+        this.out = out;
+        this.zone = zone;
+        this.stamp = utc(LocalDateTime.now());
+    }
+
+    public void begin(String calendarName) throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//spring-calendar//ICS export//EN");
+        line("CALSCALE:GREGORIAN");
+        if (calendarName != null) line("X-WR-CALNAME:" + escape(calendarName));
+    }
+
+    public void write(Evento ev) throws IOException {
+        line("BEGIN:VEVENT");
+        // 가져온 일정은 원래 UID 그대로 (다른 곳에 다시 가져가도 중복되지 않게)
+        line("UID:" + (ev.getIcsUid() != null ? escape(ev.getIcsUid()) : ev.getId() + "@spring-calendar"));
+        line("DTSTAMP:" + (ev.getUpdatedAt() != null ? utc(ev.getUpdatedAt()) : stamp));
+        if (ev.getIcsRecurrenceId() != null) line("RECURRENCE-ID:" + ev.getIcsRecurrenceId().format(LOCAL));
+        line("DTSTART:" + ev.getStart().format(LOCAL));
+        if (ev.getEnd() != null) line("DTEND:" + ev.getEnd().format(LOCAL));
+        line("SUMMARY:" + escape(ev.getTitle() == null ? "" : ev.getTitle()));
+        if (ev.getNotes() != null && !ev.getNotes().isEmpty()) {
+            line("DESCRIPTION:" + escape(ev.getNotes()));
+        }
+
+        Recurrence r = ev.getRecurrence();
+        if (r != null && r.getFreq() != null) {
+            StringBuilder rule = new StringBuilder("RRULE:FREQ=").append(r.getFreq().toUpperCase());
+            if (r.getInterval() > 1) rule.append(";INTERVAL=").append(r.getInterval());
+            if (r.getCount() != null) rule.append(";COUNT=").append(r.getCount());
+            else if (r.getUntil() != null) rule.append(";UNTIL=").append(r.getUntil().format(LOCAL));
+            line(rule.toString());
+
+            if (r.getExdates() != null) {
+                for (LocalDate d : r.getExdates()) {
+                    line("EXDATE:" + d.atTime(ev.getStart().toLocalTime()).format(LOCAL));
+                }
+            }
+        }
+
+        line("END:VEVENT");
+    }
+
+    public void end() throws IOException {
+        line("END:VCALENDAR");
+        out.flush();
+    }
+
+    private String utc(LocalDateTime t) {
+        return t.atZone(zone).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime().format(LOCAL) + "Z";
+    }
+
+    // 75바이트(UTF-8)마다 CRLF + 공백으로 접기
+    private void line(String s) throws IOException {
+        int bytes = 0;
+        int from = 0;
+
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            // 서로게이트 쌍은 앞쪽에서 4바이트로 계산 (쌍 사이에서 접지 않음)
+            int size = c < 0x80 ? 1
+                    : c < 0x800 ? 2
+                    : Character.isHighSurrogate(c) ? 4
+                    : Character.isLowSurrogate(c) ? 0 : 3;
+
+            if (bytes + size > MAX_LINE_BYTES) {
+                out.write(s, from, i - from);
+                out.write("\r\n ");
+                from = i;
+                bytes = 1;   // 앞의 공백
+            }
+            bytes += size;
+        }
+
+        out.write(s, from, s.length() - from);
+        out.write("\r\n");
+    }
+
+    private static String escape(String s) {
+        StringBuilder sb = null;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            String rep = switch (c) {
+                case '\\' -> "\\\\";
+                case ';' -> "\\;";
+                case ',' -> "\\,";
+                case '\n' -> "\\n";
+                case '\r' -> "";
+                default -> null;
+            };
+            if (rep != null) {
+                if (sb == null) sb = new StringBuilder(s.length() + 16).append(s, 0, i);
+                sb.append(rep);
+            } else if (sb != null) {
+                sb.append(c);
+            }
+        }
+        return sb == null ? s : sb.toString();
+    }
+}
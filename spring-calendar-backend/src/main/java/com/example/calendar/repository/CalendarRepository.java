@@ -1,10 +1,33 @@
 package com.example.calendar.repository;
 
 import com.example.calendar.entity.Calendar;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CalendarRepository extends MongoRepository<Calendar, String> {
     Optional<Calendar> findByShareToken(String token);
+
+    // ⭐ owner 또는 member 로 속한 캘린더 (owner / members.user 인덱스 사용)
+    List<Calendar> findByOwnerOrMembersUser(String owner, String memberUser);
+
+    Optional<Calendar> findFirstByOwnerOrMembersUser(String owner, String memberUser);
+
+    // ⭐ 권한 확인용 — _id 만 가져옴
+    @Query(value = "{ '$or': [ { 'owner': ?0 }, { 'members.user': ?0 } ] }", fields = "{ '_id': 1 }")
+    List<Calendar> findIdsByOwnerOrMember(String uid);
+
+    // ⭐ 권한 캐시용 — owner / members 만
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'owner': 1, 'members': 1 }")
+    Optional<Calendar> findAccessById(String id);
+
+    // ⭐ 이름 검색: 내가 볼 수 있는 캘린더 중 n-gram 을 모두 가진 것 → 부분 일치 확인
+    @Query("{ '$and': [ "
+         + "{ '$or': [ { 'owner': ?0 }, { 'members.user': ?0 } ] }, "
+         + "{ 'nameGrams': { '$all': ?1 } }, "
+         + "{ 'name': { '$regex': ?2, '$options': 'i' } } ] }")
+    List<Calendar> searchVisible(String uid, List<String> grams, String nameRegex, Pageable pageable);
 }
@@ -1,11 +1,14 @@
 package com.example.calendar.repository;
 
 import com.example.calendar.entity.Evento;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EventoRepository extends MongoRepository<Evento, String> {
 
@@ -15,6 +18,46 @@ public interface EventoRepository extends MongoRepository<Evento, String> {
 
     List<Evento> findByCalendarIdIn(List<String> calendarIds);
 
-    // ⭐ AI 일정 수정/삭제용
-    Optional<Evento> findByTitleAndStart(String title, LocalDateTime start);
+    // ⭐ 기간 조회: start < to && end > from (기간과 겹치는 단일 일정)
+    List<Evento> findByCalendarIdInAndRecurrenceIsNullAndStartLessThanAndEndGreaterThan(
+            List<String> calendarIds, LocalDateTime to, LocalDateTime from);
+
+    // ⭐ 기간 조회: 기간과 겹칠 수 있는 반복 일정 시리즈 (start < to && seriesEnd > from)
+    List<Evento> findByCalendarIdInAndRecurrenceIsNotNullAndStartLessThanAndRecurrenceSeriesEndGreaterThan(
+            List<String> calendarIds, LocalDateTime to, LocalDateTime from);
+
+    // ⭐ 커서 페이지 조회 (start, _id 순) — 반복 일정은 시리즈 문서 그대로
+    @Query(value = "{ 'calendarId': { '$in': ?0 }, 'start': { '$lt': ?2 }, "
+                 + "'$or': [ { 'end': { '$gt': ?1 } }, { 'recurrence.seriesEnd': { '$gt': ?1 } } ] }",
+           sort = "{ 'start': 1, '_id': 1 }")
+    List<Evento> findPage(List<String> calendarIds, LocalDateTime from, LocalDateTime to, Limit limit);
+
+    @Query(value = "{ 'calendarId': { '$in': ?0 }, 'start': { '$lt': ?2 }, '$and': [ "
+                 + "{ '$or': [ { 'end': { '$gt': ?1 } }, { 'recurrence.seriesEnd': { '$gt': ?1 } } ] }, "
+                 + "{ '$or': [ { 'start': { '$gt': ?3 } }, { 'start': ?3, '_id': { '$gt': ?4 } } ] } ] }",
+           sort = "{ 'start': 1, '_id': 1 }")
+    List<Evento> findPageAfter(List<String> calendarIds, LocalDateTime from, LocalDateTime to,
+                               LocalDateTime afterStart, String afterId, Limit limit);
+
+    // ⭐ 스트리밍 조회 (Mongo 커서 그대로) — 반복 일정은 시리즈 문서 그대로
+    Stream<Evento> streamByCalendarIdIn(List<String> calendarIds);
+
+    @Query("{ 'calendarId': { '$in': ?0 }, 'start': { '$lt': ?2 }, "
+         + "'$or': [ { 'end': { '$gt': ?1 } }, { 'recurrence.seriesEnd': { '$gt': ?1 } } ] }")
+    Stream<Evento> streamWindow(List<String> calendarIds, LocalDateTime from, LocalDateTime to);
+
+    // ⭐ 구간 인덱스 생성용 (start / end / seriesEnd 만)
+    @Query(value = "{ 'calendarId': ?0 }",
+           fields = "{ 'start': 1, 'end': 1, 'recurrence.seriesEnd': 1 }")
+    List<Evento> findSpansByCalendarId(String calendarId);
+
+    // ⭐ 동기화: version > token 이거나 최근에 바뀐 일정 (반복 일정은 시리즈 문서 그대로)
+    @Query("{ 'calendarId': ?0, '$or': [ { 'version': { '$gt': ?1 } }, { 'updatedAt': { '$gt': ?2 } } ] }")
+    List<Evento> findChangedSince(String calendarId, long version, LocalDateTime since);
+
+    // ⭐ AI 일정 수정/삭제용 (명령을 보낸 캘린더 안에서만, calendar_start_end_idx)
+    Optional<Evento> findFirstByCalendarIdAndStartAndTitle(String calendarId, LocalDateTime start, String title);
+
+    // ⭐ AI 반복 일정 한 회차 삭제용
+    List<Evento> findByTitleAndCalendarIdAndRecurrenceIsNotNull(String title, String calendarId);
 }
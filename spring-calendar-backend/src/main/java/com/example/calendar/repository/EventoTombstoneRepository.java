@@ -0,0 +1,17 @@
+package com.example.calendar.repository;
+
+import com.example.calendar.entity.EventoTombstone;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventoTombstoneRepository extends MongoRepository<EventoTombstone, String> {
+
+    // ⭐ 동기화: version > token 이거나 최근에 삭제된 것
+    @Query("{ 'calendarId': ?0, '$or': [ { 'version': { '$gt': ?1 } }, { 'deletedAt': { '$gt': ?2 } } ] }")
+    List<EventoTombstone> findChangedSince(String calendarId, long version, LocalDateTime since);
+
+    void deleteByCalendarId(String calendarId);
+}
@@ -0,0 +1,19 @@
+package com.example.calendar.repository;
+
+import com.example.calendar.entity.Calendar;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// reactive 프로필 전용 (권한 확인용 조회만)
+public interface ReactiveCalendarRepository extends ReactiveMongoRepository<Calendar, String> {
+
+    // ⭐ owner 또는 member 로 속한 캘린더 — _id 만
+    @Query(value = "{ '$or': [ { 'owner': ?0 }, { 'members.user': ?0 } ] }", fields = "{ '_id': 1 }")
+    Flux<Calendar> findIdsByOwnerOrMember(String uid);
+
+    // ⭐ 권한 캐시용 — owner / members 만
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'owner': 1, 'members': 1 }")
+    Mono<Calendar> findAccessById(String id);
+}
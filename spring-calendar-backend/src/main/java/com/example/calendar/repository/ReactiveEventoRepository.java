@@ -0,0 +1,28 @@
+package com.example.calendar.repository;
+
+import com.example.calendar.entity.Evento;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// reactive 프로필 전용 (EventoRepository 의 조회 메서드와 같은 쿼리)
+public interface ReactiveEventoRepository extends ReactiveMongoRepository<Evento, String> {
+
+    Flux<Evento> findByCalendarIdIn(List<String> calendarIds);
+
+    // ⭐ 기간 조회: start < to && end > from (기간과 겹치는 단일 일정)
+    Flux<Evento> findByCalendarIdInAndRecurrenceIsNullAndStartLessThanAndEndGreaterThan(
+            List<String> calendarIds, LocalDateTime to, LocalDateTime from);
+
+    // ⭐ 기간 조회: 기간과 겹칠 수 있는 반복 일정 시리즈 (start < to && seriesEnd > from)
+    Flux<Evento> findByCalendarIdInAndRecurrenceIsNotNullAndStartLessThanAndRecurrenceSeriesEndGreaterThan(
+            List<String> calendarIds, LocalDateTime to, LocalDateTime from);
+
+    // ⭐ 스트리밍 조회 — 반복 일정은 시리즈 문서 그대로
+    @Query("{ 'calendarId': { '$in': ?0 }, 'start': { '$lt': ?2 }, "
+         + "'$or': [ { 'end': { '$gt': ?1 } }, { 'recurrence.seriesEnd': { '$gt': ?1 } } ] }")
+    Flux<Evento> findWindow(List<String> calendarIds, LocalDateTime from, LocalDateTime to);
+}
@@ -2,9 +2,16 @@ package com.example.calendar.repository;
 
 import com.example.calendar.entity.Usuario;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UsuarioRepository extends MongoRepository<Usuario, String> {
     Optional<Usuario> findByEmail(String email);
+
+    // ⭐ 여러 명을 한 번에 (password 는 가져오지 않음)
+    @Query(value = "{ '_id': { '$in': ?0 } }", fields = "{ 'name': 1, 'email': 1 }")
+    List<Usuario> findProfilesByIdIn(Collection<String> ids);
 }
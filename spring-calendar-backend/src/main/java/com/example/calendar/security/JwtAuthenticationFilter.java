@@ -4,6 +4,9 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -15,13 +18,24 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import io.jsonwebtoken.Claims;
 
 import java.io.IOException;
+import java.util.regex.Pattern;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    // ?token= 은 SSE 피드에서만 (다른 경로 토큰이 access log 에 남지 않게)
+    private static final Pattern FEED_PATH = Pattern.compile("^/api/calendars/[^/]+/feed$");
+
     @Autowired
     private JwtTokenProvider jwtProvider;
 
+    @Autowired
+    private MeterRegistry meters;
+
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -45,6 +59,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             token = request.getHeader("x-token");
         }
 
+        /* ============================
+         * ③ SSE 피드: EventSource 는 헤더를 못 붙여서 ?token= 허용
+         * ============================ */
+        if (token == null && FEED_PATH.matcher(request.getRequestURI()).matches()) {
+            token = request.getParameter("token");
+        }
+
         if (token != null) {
             try {
                 Claims claims = jwtProvider.validateToken(token);
@@ -53,7 +74,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 UsernamePasswordAuthenticationToken auth =
                         new UsernamePasswordAuthenticationToken(uid, null, null);
-                auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                auth.setDetails(detailsSource.buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(auth);
 
@@ -61,7 +82,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 request.setAttribute("name", name);
 
             } catch (Exception e) {
-                System.out.println("JWT Error: " + e.getMessage());
+                // 만료 / 서명 오류 / 형식 오류 별 실패 수
+                meters.counter("jwt.validation.failures", "reason", e.getClass().getSimpleName()).increment();
+                log.debug("JWT rejected: {}", e.getMessage());
             }
         }
 
@@ -1,13 +1,24 @@
 package com.example.calendar.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
 
 @Component
 public class JwtTokenProvider {
@@ -18,11 +29,39 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long expiration;
 
+    // 검증 끝난 토큰 캐시 (0 이면 사용 안 함)
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Autowired
+    private MeterRegistry meters;
+
     private Key key;
 
+    // ⭐ 파서는 한 번만 만들어서 재사용 (thread-safe)
+    private JwtParser parser;
+
+    // SHA-256(token) → Claims, 토큰 만료 시각에 제거
+    private Cache<String, Claims> verified;
+
     @PostConstruct
     public void init() {
         key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+
+        if (cacheMaxSize > 0) {
+            verified = Caffeine.newBuilder()
+                    .maximumSize(cacheMaxSize)
+                    .expireAfter(Expiry.<String, Claims>creating((digest, claims) ->
+                            Duration.ofMillis(Math.max(0,
+                                    claims.getExpiration().getTime() - System.currentTimeMillis()))))
+                    .recordStats()
+                    .build();
+
+            CaffeineCacheMetrics.monitor(meters, verified, "jwt.verified");
+        }
     }
 
     // ⭐ 토큰 생성
@@ -36,12 +75,31 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    // ⭐ 토큰 검증
+    // ⭐ 토큰 검증 — 이미 검증한 토큰은 캐시에서 바로 반환
     public Claims validateToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        if (verified == null) {
+            return parser.parseClaimsJws(token).getBody();
+        }
+
+        String digest = digest(token);
+        Claims cached = verified.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null) {
+            verified.put(digest, claims);
+        }
+        return claims;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
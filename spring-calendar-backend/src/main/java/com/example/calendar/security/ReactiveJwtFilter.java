@@ -0,0 +1,71 @@
+package com.example.calendar.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * reactive 프로필용 JWT 필터 (JwtAuthenticationFilter 와 같은 규칙).
+ * 검증되면 exchange 속성 uid / name 을 채움 → 컨트롤러에서 @RequestAttribute("uid").
+ * 보안 체인에만 넣음 (빈으로 등록하면 WebFlux 가 전역 필터로 한 번 더 실행).
+ */
+public class ReactiveJwtFilter implements WebFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveJwtFilter.class);
+
+    private final JwtTokenProvider jwtProvider;
+    private final MeterRegistry meters;
+
+    public ReactiveJwtFilter(JwtTokenProvider jwtProvider, MeterRegistry meters) {
+        this.jwtProvider = jwtProvider;
+        this.meters = meters;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = token(exchange.getRequest());
+        if (token == null) {
+            return chain.filter(exchange);
+        }
+
+        try {
+            Claims claims = jwtProvider.validateToken(token);
+            String uid = claims.getSubject();
+
+            exchange.getAttributes().put("uid", uid);
+            exchange.getAttributes().put("name", claims.get("name", String.class));
+
+            UsernamePasswordAuthenticationToken auth =
+                    new UsernamePasswordAuthenticationToken(uid, null, List.of());
+
+            return chain.filter(exchange)
+                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth));
+
+        } catch (Exception e) {
+            // 만료 / 서명 오류 / 형식 오류 별 실패 수
+            meters.counter("jwt.validation.failures", "reason", e.getClass().getSimpleName()).increment();
+            log.debug("JWT rejected: {}", e.getMessage());
+            return chain.filter(exchange);
+        }
+    }
+
+    // Authorization: Bearer → x-token 순서
+    private static String token(ServerHttpRequest request) {
+        String header = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith("Bearer ")) {
+            return header.substring(7);
+        }
+        return request.getHeaders().getFirst("x-token");
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.calendar.security;
 
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -13,6 +16,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder; 
 
 @Configuration
+@Profile("!reactive")   // reactive 프로필은 ReactiveSecurityConfig
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtFilter;
@@ -36,6 +40,12 @@ public class SecurityConfig {
                 .requestMatchers("/api/auth/*").permitAll()
                 .requestMatchers("/api/auth").permitAll()
 
+                // ⭐ 헬스 체크 / Prometheus 스크랩 — actuator 는 management.server.port 에서만 열림 (API 포트에는 없음)
+                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+
+                // ⭐ 스트리밍 응답(async dispatch)은 최초 요청에서 이미 인증됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // ⭐ 나머지는 인증 필요
                 .anyRequest().authenticated()
             )
@@ -0,0 +1,108 @@
+package com.example.calendar.service;
+
+import com.example.calendar.entity.Calendar;
+import com.example.calendar.entity.Member;
+import com.example.calendar.repository.CalendarRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 캘린더별 권한 캐시 (calendarId → owner + userId → role).
+ * 멤버 변경 / 캘린더 삭제 시 invalidate() 로 비운다.
+ * 여러 서버로 돌릴 때를 위해 TTL 도 둔다 (calendars.access-cache.ttl).
+ * AsyncCache: 읽는 중에 invalidate() 되면 그 읽기 결과는 캐시에 들어가지 않음 (예전 멤버 목록이 되살아나지 않게).
+ */
+@Component
+public class CalendarAccess {
+
+    @Value("${calendars.access-cache.max-size:50000}")
+    private long maxSize;
+
+    @Value("${calendars.access-cache.ttl:1m}")
+    private Duration ttl;
+
+    @Autowired
+    private CalendarRepository calendarRepo;
+
+    @Autowired
+    private MeterRegistry meters;
+
+    private AsyncCache<String, Access> cache;
+
+    public record Access(String owner, Map<String, String> roles) {
+
+        public boolean isOwner(String uid) {
+            return Objects.equals(owner, uid);
+        }
+
+        // owner | editor | viewer | null(권한 없음)
+        public String roleOf(String uid) {
+            return isOwner(uid) ? "owner" : roles.get(uid);
+        }
+
+        public boolean canView(String uid) {
+            return roleOf(uid) != null;
+        }
+
+        public boolean canEdit(String uid) {
+            return isOwner(uid) || "editor".equals(roles.get(uid));
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meters, cache.synchronous(), "calendars.access");
+    }
+
+    // ⭐ 캘린더가 없으면 empty
+    public Optional<Access> get(String calendarId) {
+        if (calendarId == null) return Optional.empty();
+        return Optional.ofNullable(cache.synchronous().get(calendarId, id ->
+                calendarRepo.findAccessById(id).map(CalendarAccess::toAccess).orElse(null)));
+    }
+
+    // ⭐ reactive 조회용: 없으면 reader 로 비동기로 읽어서 채움 (같은 캘린더는 한 번만 읽음)
+    //    캘린더가 없으면 null 로 완료
+    public CompletableFuture<Access> getAsync(String calendarId,
+                                              Function<String, CompletableFuture<Calendar>> reader) {
+        if (calendarId == null) return CompletableFuture.completedFuture(null);
+        return cache.get(calendarId, (id, executor) ->
+                reader.apply(id).thenApply(cal -> cal == null ? null : toAccess(cal)));
+    }
+
+    public void invalidate(String calendarId) {
+        if (calendarId != null) cache.synchronous().invalidate(calendarId);
+    }
+
+    private static Access toAccess(Calendar cal) {
+        Map<String, String> roles = new HashMap<>();
+        if (cal.getMembers() != null) {
+            for (Member m : cal.getMembers()) {
+                if (m.getUser() != null) {
+                    roles.put(m.getUser(), m.getRole() == null ? "viewer" : m.getRole());
+                }
+            }
+        }
+        return new Access(cal.getOwner(), Map.copyOf(roles));
+    }
+}
@@ -1,26 +1,49 @@
 package com.example.calendar.service;
 
+import com.example.calendar.dto.UserProfile;
 import com.example.calendar.entity.Calendar;
 import com.example.calendar.entity.Evento;
 import com.example.calendar.entity.Member;
+import com.example.calendar.entity.Recurrence;
 import com.example.calendar.entity.Usuario;
+import com.example.calendar.feed.CalendarChange;
 import com.example.calendar.repository.CalendarRepository;
 import com.example.calendar.repository.EventoRepository;
 import com.example.calendar.repository.UsuarioRepository;
 
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
+import org.bson.Document;
 
 import java.security.SecureRandom;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 
 
 @Service
+@Timed(value = "calendar.service", histogram = true)   // public 메서드마다 class / method 태그로 기록
 public class CalendarService {
 
+    private static final Logger log = LoggerFactory.getLogger(CalendarService.class);
+
     @Autowired
     private CalendarRepository calendarRepo;
 
@@ -30,6 +53,42 @@ public class CalendarService {
     @Autowired
     private EventoRepository eventoRepo;
 
+    @Autowired
+    private UserProfileCache userProfiles;
+
+    @Autowired
+    private CalendarAccess calendarAccess;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventIntervalIndex intervalIndex;
+
+    @Autowired
+    private ApplicationEventPublisher changes;
+
+    @Autowired
+    private EventSync eventSync;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${recommend.work-start:09:00}")
+    private String workStart;
+
+    @Value("${recommend.work-end:18:00}")
+    private String workEnd;
+
+    @Value("${recommend.duration:60m}")
+    private Duration slotDuration;
+
+    @Value("${recommend.days:7}")
+    private int searchDays;
+
+    @Value("${recommend.limit:3}")
+    private int slotLimit;
+
     private final SecureRandom random = new SecureRandom();
 
     // 🔥 Node.js crypto.randomBytes(16).toString("hex") 동일
@@ -44,17 +103,26 @@ public class CalendarService {
         return sb.toString();
     }
 
+    // ⭐ 문서 전체 save 대신 조건부 원자 갱신 (read-modify-write 사이에 다른 요청 변경이 덮어써지지 않음)
+    //    조건이 맞지 않으면 null, 맞으면 바뀐 뒤의 문서
+    private Calendar modifyCalendar(Criteria criteria, Update update) {
+        return mongoTemplate.findAndModify(Query.query(criteria), update,
+                FindAndModifyOptions.options().returnNew(true), Calendar.class);
+    }
+
+    // owner 조건으로 갱신이 안 됐을 때: 캘린더가 없으면 예외, 있으면 권한 없음
+    private Map<String, Object> notOwner(String id) {
+        calendarAccess.get(id).orElseThrow(() -> new RuntimeException("No existe"));
+        return Map.of("ok", false, "msg", "No autorizado");
+    }
+
     /* ==========================================================
        1) 내 캘린더 조회 (owner + member)
        ========================================================== */
     public Map<String, Object> getUserCalendars(String uid) {
         try {
-            // 1. 현재 사용자가 속한 캘린더 목록을 필터링합니다. (기존 코드와 동일)
-            List<Calendar> rawCalendars = calendarRepo.findAll().stream()
-                    .filter(c -> Objects.equals(c.getOwner(), uid)
-                            || c.getMembers().stream()
-                            .anyMatch(m -> Objects.equals(m.getUser(), uid)))
-                    .collect(Collectors.toList());
+            // 1. 현재 사용자가 속한 캘린더만 인덱스로 조회합니다. (owner / members.user)
+            List<Calendar> rawCalendars = calendarRepo.findByOwnerOrMembersUser(uid, uid);
 
             // 2. 각 캘린더 객체에 'role' 정보를 추가하여 새로운 리스트(Map 형태)로 변환합니다.
             List<Map<String, Object>> calendarsWithRole = rawCalendars.stream()
@@ -97,7 +165,7 @@ public class CalendarService {
                     "calendars", calendarsWithRole 
             );
         } catch (Exception e) {
-            System.err.println("Error al obtener calendarios: " + e.getMessage());
+            log.warn("getUserCalendars failed", e);
             return Map.of("ok", false, "msg", "Error al obtener calendarios");
         }
     }
@@ -109,6 +177,7 @@ public class CalendarService {
         try {
             Calendar cal = new Calendar();
             cal.setName(name);
+            cal.setNameGrams(NameGrams.index(name));
             cal.setOwner(uid);
             cal.setMembers(new ArrayList<>());
 
@@ -119,6 +188,7 @@ public class CalendarService {
                     "calendar", cal
             );
         } catch (Exception e) {
+            log.warn("createCalendar failed", e);
             return Map.of("ok", false, "msg", "Error al crear calendario");
         }
     }
@@ -128,19 +198,21 @@ public class CalendarService {
        ========================================================== */
     public Map<String, Object> renameCalendar(String uid, String id, String name) {
         try {
-            Calendar cal = calendarRepo.findById(id)
-                    .orElseThrow(() -> new RuntimeException("No existe"));
+            // ⭐ name / nameGrams 만 $set (members 배열은 다시 쓰지 않음)
+            Calendar cal = modifyCalendar(
+                    Criteria.where("_id").is(id).and("owner").is(uid),
+                    new Update().set("name", name).set("nameGrams", NameGrams.index(name)));
 
-            if (!Objects.equals(cal.getOwner(), uid)) {
-                return Map.of("ok", false, "msg", "No autorizado");
+            if (cal == null) {
+                return notOwner(id);
             }
 
-            cal.setName(name);
-            calendarRepo.save(cal);
+            changes.publishEvent(CalendarChange.calendar(id, CalendarChange.CALENDAR_UPDATED, null));
 
             return Map.of("ok", true, "calendar", cal);
 
         } catch (Exception e) {
+            log.warn("renameCalendar failed", e);
             return Map.of("ok", false, "msg", "Error al renombrar");
         }
     }
@@ -150,19 +222,24 @@ public class CalendarService {
        ========================================================== */
     public Map<String, Object> deleteCalendar(String uid, String id) {
         try {
-            Calendar cal = calendarRepo.findById(id)
+            CalendarAccess.Access access = calendarAccess.get(id)
                     .orElseThrow(() -> new RuntimeException("No existe"));
 
-            if (!Objects.equals(cal.getOwner(), uid)) {
+            if (!access.isOwner(uid)) {
                 return Map.of("ok", false, "msg", "No autorizado");
             }
 
             eventoRepo.deleteByCalendarId(id);
             calendarRepo.deleteById(id);
+            calendarAccess.invalidate(id);
+            intervalIndex.invalidate(id);
+            eventSync.forget(id);
+            changes.publishEvent(CalendarChange.calendar(id, CalendarChange.CALENDAR_DELETED, null));
 
             return Map.of("ok", true, "msg", "Eliminado");
 
         } catch (Exception e) {
+            log.warn("deleteCalendar failed", e);
             return Map.of("ok", false, "msg", "Error al eliminar");
         }
     }
@@ -172,27 +249,35 @@ public class CalendarService {
        ========================================================== */
     public Map<String, Object> addMember(String uid, String calendarId, String email, String role) {
         try {
-            Calendar cal = calendarRepo.findById(calendarId)
+            CalendarAccess.Access access = calendarAccess.get(calendarId)
                     .orElseThrow(() -> new RuntimeException("No existe"));
 
-            if (!Objects.equals(cal.getOwner(), uid)) {
+            if (!access.isOwner(uid)) {
                 return Map.of("ok", false, "msg", "No autorizado");
             }
 
             Usuario user = usuarioRepo.findByEmail(email)
                     .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
 
-            boolean exists = cal.getMembers().stream()
-                    .anyMatch(m -> Objects.equals(m.getUser(), user.getId()));
-
-            if (!exists) {
-                cal.getMembers().add(new Member(user.getId(), role == null ? "viewer" : role));
-                calendarRepo.save(cal);
+            // ⭐ 아직 멤버가 아닐 때만 $push (동시에 추가해도 중복 / 유실 없음)
+            Calendar cal = modifyCalendar(
+                    Criteria.where("_id").is(calendarId).and("owner").is(uid)
+                            .and("members.user").ne(user.getId()),
+                    new Update().push("members", new Member(user.getId(), role == null ? "viewer" : role)));
+
+            if (cal != null) {
+                calendarAccess.invalidate(calendarId);
+                changes.publishEvent(CalendarChange.calendar(calendarId, CalendarChange.MEMBER_ADDED, user.getId()));
+            } else {
+                // 이미 멤버
+                cal = calendarRepo.findById(calendarId)
+                        .orElseThrow(() -> new RuntimeException("No existe"));
             }
 
             return Map.of("ok", true, "calendar", cal);
 
         } catch (Exception e) {
+            log.warn("addMember failed", e);
             return Map.of("ok", false, "msg", "Error al agregar miembro");
         }
     }
@@ -202,24 +287,32 @@ public class CalendarService {
        ========================================================== */
     public Map<String, Object> removeMember(String uid, String calendarId, String memberId) {
         try {
-            Calendar cal = calendarRepo.findById(calendarId)
+            CalendarAccess.Access access = calendarAccess.get(calendarId)
                     .orElseThrow(() -> new RuntimeException("No existe"));
 
-            if (!Objects.equals(cal.getOwner(), uid)) {
+            if (!access.isOwner(uid)) {
                 return Map.of("ok", false, "msg", "No autorizado");
             }
 
-            cal.setMembers(
-                    cal.getMembers().stream()
-                            .filter(m -> !Objects.equals(m.getUser(), memberId))
-                            .collect(Collectors.toList())
-            );
-
-            calendarRepo.save(cal);
+            // ⭐ 해당 사용자 항목만 $pull
+            Calendar cal = modifyCalendar(
+                    Criteria.where("_id").is(calendarId).and("owner").is(uid)
+                            .and("members.user").is(memberId),
+                    new Update().pull("members", new Document("user", memberId)));
+
+            if (cal != null) {
+                calendarAccess.invalidate(calendarId);
+                changes.publishEvent(CalendarChange.calendar(calendarId, CalendarChange.MEMBER_REMOVED, memberId));
+            } else {
+                // 멤버가 아님
+                cal = calendarRepo.findById(calendarId)
+                        .orElseThrow(() -> new RuntimeException("No existe"));
+            }
 
             return Map.of("ok", true, "calendar", cal);
 
         } catch (Exception e) {
+            log.warn("removeMember failed", e);
             return Map.of("ok", false, "msg", "Error al remover miembro");
         }
     }
@@ -240,33 +333,43 @@ public class CalendarService {
                 return Map.of("ok", false, "msg", "No autorizado");
             }
 
+            // ⭐ owner + members 를 한 번에 조회 (캐시 → 없는 것만 $in 쿼리)
+            Set<String> ids = new LinkedHashSet<>();
+            ids.add(cal.getOwner());
+            cal.getMembers().forEach(m -> ids.add(m.getUser()));
+
+            Map<String, UserProfile> profiles = userProfiles.getAll(ids);
+
             List<Map<String, Object>> members = new ArrayList<>();
 
             // owner
-            usuarioRepo.findById(cal.getOwner()).ifPresent(u ->
-                    members.add(Map.of(
-                            "_id", u.getId(),
-                            "name", u.getName(),
-                            "email", u.getEmail(),
-                            "role", "owner"
-                    ))
-            );
+            UserProfile owner = profiles.get(cal.getOwner());
+            if (owner != null) {
+                members.add(Map.of(
+                        "_id", owner.id(),
+                        "name", owner.name(),
+                        "email", owner.email(),
+                        "role", "owner"
+                ));
+            }
 
             // members
             for (Member m : cal.getMembers()) {
-                usuarioRepo.findById(m.getUser()).ifPresent(u ->
-                        members.add(Map.of(
-                                "_id", u.getId(),
-                                "name", u.getName(),
-                                "email", u.getEmail(),
-                                "role", m.getRole()
-                        ))
-                );
+                UserProfile u = profiles.get(m.getUser());
+                if (u != null) {
+                    members.add(Map.of(
+                            "_id", u.id(),
+                            "name", u.name(),
+                            "email", u.email(),
+                            "role", m.getRole()
+                    ));
+                }
             }
 
             return Map.of("ok", true, "members", members);
 
         } catch (Exception e) {
+            log.warn("getCalendarMembers failed", e);
             return Map.of("ok", false, "msg", "Error al obtener miembros");
         }
     }
@@ -277,31 +380,29 @@ public class CalendarService {
     public Map<String, Object> updateMemberRole(String uid, String calendarId, String memberId, String role) {
         try {
 
-            Calendar cal = calendarRepo.findById(calendarId)
-                    .orElseThrow(() -> new RuntimeException("No existe"));
+            // ⭐ 해당 멤버의 role 만 $set (positional)
+            Calendar cal = modifyCalendar(
+                    Criteria.where("_id").is(calendarId).and("owner").is(uid)
+                            .and("members.user").is(memberId),
+                    new Update().set("members.$.role", role));
 
-            if (!Objects.equals(cal.getOwner(), uid)) {
-                return Map.of("ok", false, "msg", "No autorizado");
-            }
+            if (cal == null) {
+                CalendarAccess.Access access = calendarAccess.get(calendarId)
+                        .orElseThrow(() -> new RuntimeException("No existe"));
 
-            boolean found = false;
-
-            for (Member m : cal.getMembers()) {
-                if (Objects.equals(m.getUser(), memberId)) {
-                    m.setRole(role);
-                    found = true;
+                if (!access.isOwner(uid)) {
+                    return Map.of("ok", false, "msg", "No autorizado");
                 }
-            }
-
-            if (!found) {
                 return Map.of("ok", false, "msg", "member not found");
             }
 
-            calendarRepo.save(cal);
+            calendarAccess.invalidate(calendarId);
+            changes.publishEvent(CalendarChange.calendar(calendarId, CalendarChange.MEMBER_UPDATED, memberId));
 
             return Map.of("ok", true);
 
         } catch (Exception e) {
+            log.warn("updateMemberRole failed", e);
             return Map.of("ok", false, "msg", "Error al cambiar rol");
         }
     }
@@ -309,15 +410,29 @@ public class CalendarService {
     /* ==========================================================
        9) 검색
        ========================================================== */
-    public Map<String, Object> searchCalendars(String keyword) {
+    public Map<String, Object> searchCalendars(String uid, String keyword, int page, int size) {
         try {
-            List<Calendar> list = calendarRepo.findAll().stream()
-                    .filter(c -> c.getName().toLowerCase().contains(keyword.toLowerCase()))
-                    .collect(Collectors.toList());
+            List<String> grams = NameGrams.query(keyword);
+            if (grams.isEmpty()) {
+                return Map.of("ok", true, "calendars", List.of(), "page", page, "size", size);
+            }
+
+            // ⭐ nameGrams 인덱스 + 내 캘린더 범위로만 조회, 페이지 단위
+            PageRequest pageable = PageRequest.of(
+                    Math.max(page, 0), Math.max(1, Math.min(size, 100)), Sort.by("name", "id"));
 
-            return Map.of("ok", true, "calendars", list);
+            List<Calendar> list = calendarRepo.searchVisible(
+                    uid, grams, NameGrams.containsRegex(keyword), pageable);
+
+            return Map.of(
+                    "ok", true,
+                    "calendars", list,
+                    "page", pageable.getPageNumber(),
+                    "size", pageable.getPageSize()
+            );
 
         } catch (Exception e) {
+            log.warn("searchCalendars failed", e);
             return Map.of("ok", false, "msg", "Error al buscar");
         }
     }
@@ -327,16 +442,26 @@ public class CalendarService {
        ========================================================== */
     public Map<String, Object> generateShareLink(String uid, String id, boolean rotate) {
         try {
-            Calendar cal = calendarRepo.findById(id)
-                    .orElseThrow(() -> new RuntimeException("No existe"));
-
-            if (!Objects.equals(cal.getOwner(), uid)) {
-                return Map.of("ok", false, "msg", "No autorizado");
+            // ⭐ shareToken 만 $set. rotate 가 아니면 토큰이 없을 때만 → 동시에 만들어도 토큰은 하나
+            Criteria criteria = Criteria.where("_id").is(id).and("owner").is(uid);
+            if (!rotate) {
+                criteria = criteria.and("shareToken").is(null);
             }
 
-            if (rotate || cal.getShareToken() == null) {
-                cal.setShareToken(generateHexToken());
-                calendarRepo.save(cal);
+            Calendar cal = modifyCalendar(criteria, new Update().set("shareToken", generateHexToken()));
+
+            if (cal == null) {
+                if (rotate) {
+                    return notOwner(id);
+                }
+
+                // 이미 토큰이 있거나 권한 없음
+                cal = calendarRepo.findById(id)
+                        .orElseThrow(() -> new RuntimeException("No existe"));
+
+                if (!Objects.equals(cal.getOwner(), uid)) {
+                    return Map.of("ok", false, "msg", "No autorizado");
+                }
             }
 
             return Map.of(
@@ -347,6 +472,7 @@ public class CalendarService {
             );
 
         } catch (Exception e) {
+            log.warn("generateShareLink failed", e);
             return Map.of("ok", false, "msg", "Error al generar link");
         }
     }
@@ -378,6 +504,7 @@ public class CalendarService {
             );
 
         } catch (Exception e) {
+            log.warn("getShareInfo failed", e);
             return Map.of("ok", false, "msg", "Error al obtener share info");
         }
     }
@@ -387,19 +514,18 @@ public class CalendarService {
        ========================================================== */
     public Map<String, Object> revokeShareLink(String uid, String id) {
         try {
-            Calendar cal = calendarRepo.findById(id)
-                    .orElseThrow(() -> new RuntimeException("No existe"));
+            Calendar cal = modifyCalendar(
+                    Criteria.where("_id").is(id).and("owner").is(uid),
+                    new Update().unset("shareToken"));
 
-            if (!Objects.equals(cal.getOwner(), uid)) {
-                return Map.of("ok", false, "msg", "No autorizado");
+            if (cal == null) {
+                return notOwner(id);
             }
 
-            cal.setShareToken(null);
-            calendarRepo.save(cal);
-
             return Map.of("ok", true);
 
         } catch (Exception e) {
+            log.warn("revokeShareLink failed", e);
             return Map.of("ok", false, "msg", "Error al revocar link");
         }
     }
@@ -409,24 +535,29 @@ public class CalendarService {
        ========================================================== */
     public Map<String, Object> joinByToken(String uid, String token) {
         try {
-            Calendar cal = calendarRepo.findByShareToken(token)
-                    .orElseThrow(() -> new RuntimeException("No existe"));
-
-            if (Objects.equals(cal.getOwner(), uid)) {
-                return Map.of("ok", true, "calendar", cal);
+            if (token == null || token.isBlank()) {
+                throw new RuntimeException("No existe");
             }
 
-            boolean exists = cal.getMembers().stream()
-                    .anyMatch(m -> Objects.equals(m.getUser(), uid));
-
-            if (!exists) {
-                cal.getMembers().add(new Member(uid, "viewer"));
-                calendarRepo.save(cal);
+            // ⭐ owner 도 멤버도 아닐 때만 viewer 로 $push (링크로 동시에 참가해도 유실 없음)
+            Calendar cal = modifyCalendar(
+                    Criteria.where("shareToken").is(token).and("owner").ne(uid)
+                            .and("members.user").ne(uid),
+                    new Update().push("members", new Member(uid, "viewer")));
+
+            if (cal != null) {
+                calendarAccess.invalidate(cal.getId());
+                changes.publishEvent(CalendarChange.calendar(cal.getId(), CalendarChange.MEMBER_ADDED, uid));
+            } else {
+                // owner 이거나 이미 멤버
+                cal = calendarRepo.findByShareToken(token)
+                        .orElseThrow(() -> new RuntimeException("No existe"));
             }
 
             return Map.of("ok", true, "calendar", cal);
 
         } catch (Exception e) {
+            log.warn("joinByToken failed", e);
             return Map.of("ok", false, "msg", "Error al unirse por link");
         }
     }
@@ -436,26 +567,29 @@ public class CalendarService {
        ========================================================== */
     public Map<String, Object> leaveCalendar(String uid, String id) {
         try {
-            Calendar cal = calendarRepo.findById(id)
+            // ⭐ 본인 항목만 $pull
+            Calendar cal = modifyCalendar(
+                    Criteria.where("_id").is(id).and("members.user").is(uid),
+                    new Update().pull("members", new Document("user", uid)));
+
+            if (cal != null) {
+                calendarAccess.invalidate(id);
+                changes.publishEvent(CalendarChange.calendar(id, CalendarChange.MEMBER_REMOVED, uid));
+                return Map.of("ok", true, "calendar", cal);
+            }
+
+            cal = calendarRepo.findById(id)
                     .orElseThrow(() -> new RuntimeException("No existe"));
 
             if (Objects.equals(cal.getOwner(), uid)) {
                 return Map.of("ok", false, "msg", "El propietario no puede salir. Transfiere la propiedad primero.");
             }
 
-            int before = cal.getMembers().size();
-
-            cal.setMembers(
-                    cal.getMembers().stream()
-                            .filter(m -> !Objects.equals(m.getUser(), uid))
-                            .collect(Collectors.toList())
-            );
-
-            calendarRepo.save(cal);
-
+            // 멤버가 아님
             return Map.of("ok", true, "calendar", cal);
 
         } catch (Exception e) {
+            log.warn("leaveCalendar failed", e);
             return Map.of("ok", false, "msg", "Error al salir del calendario");
         }
     }
@@ -468,14 +602,10 @@ public Map<String, Object> addEvent(
         LocalDateTime dateTime, String calendarId
 ) {
     try {
-        Calendar cal = calendarRepo.findById(calendarId)
+        CalendarAccess.Access access = calendarAccess.get(calendarId)
                 .orElseThrow(() -> new RuntimeException("Calendar not found"));
 
-        boolean isOwner = Objects.equals(cal.getOwner(), uid);
-        boolean isMember = cal.getMembers().stream()
-                .anyMatch(m -> Objects.equals(m.getUser(), uid));
-
-        if (!isOwner && !isMember) {
+        if (!access.canView(uid)) {
             return Map.of("ok", false, "msg", "권한이 없습니다.");
         }
 
@@ -490,12 +620,16 @@ public Map<String, Object> addEvent(
         ev.setEnd(dateTime.plusHours(1));
         ev.setCalendarId(calendarId);
 
+        eventSync.stamp(ev);
         eventoRepo.save(ev);
+        intervalIndex.put(ev);
+        changes.publishEvent(CalendarChange.event(CalendarChange.EVENT_CREATED, ev));
 
-        return Map.of("ok", true, "event", ev);
+        // 저장은 그대로 하고 겹치는 일정은 알려만 줌
+        return Map.of("ok", true, "event", ev, "conflicts", intervalIndex.conflictsOf(ev));
 
     } catch (Exception e) {
-        e.printStackTrace(); // ✅ 원인 로그 보려고 (추천)
+        log.warn("addEvent failed", e);
         return Map.of("ok", false, "msg", "일정 생성 오류");
     }
 }
@@ -509,25 +643,28 @@ public Map<String, Object> updateEvent(
         LocalDateTime dateTime, String calendarId
 ) {
     try {
-        // 제목 일치 & 시작시간 일치하는 일정 찾기
-        Optional<Evento> opt = eventoRepo.findByTitleAndStart(title, dateTime);
+        // 이 캘린더 안에서 제목 일치 & 시작시간 일치하는 일정 찾기
+        Optional<Evento> opt = eventoRepo.findFirstByCalendarIdAndStartAndTitle(calendarId, dateTime, title);
 
         if (opt.isEmpty()) {
             return Map.of("ok", false, "msg", "수정할 일정이 없습니다.");
         }
 
-        Evento ev = opt.get();
-
-        ev.setTitle(title);
-        ev.setNotes(details);
-        ev.setStart(dateTime);
-        ev.setEnd(dateTime.plusHours(1));
-
-        eventoRepo.save(ev);
+        // ⭐ PUT 과 같은 경로 (권한 확인 + 필드 단위 $set + version 조건) — 더 새 수정을 덮어쓰지 않음
+        Evento data = new Evento();
+        data.setTitle(title);
+        data.setNotes(details);
+        data.setStart(dateTime);
+        data.setEnd(dateTime.plusHours(1));
+        data.setColor(opt.get().getColor());   // recurrence 는 보내지 않음 → 기존 규칙 유지
 
-        return Map.of("ok", true, "event", ev);
+        Map<String, Object> result = eventService.updateEvent(uid, opt.get().getId(), data, false);
+        return Boolean.TRUE.equals(result.get("ok"))
+                ? Map.of("ok", true, "event", result.get("evento"))
+                : result;
 
     } catch (Exception e) {
+        log.warn("updateEvent failed", e);
         return Map.of("ok", false, "msg", "일정 수정 오류");
     }
 }
@@ -540,16 +677,30 @@ public Map<String, Object> deleteEvent(
         LocalDateTime dateTime, String calendarId
 ) {
     try {
-        Optional<Evento> opt = eventoRepo.findByTitleAndStart(title, dateTime);
+        Optional<Evento> opt = eventoRepo.findFirstByCalendarIdAndStartAndTitle(calendarId, dateTime, title);
 
         if (opt.isEmpty()) {
+            // 반복 일정의 한 회차면 회차 id 로 삭제 → 시리즈에 제외 날짜만 $addToSet (문서 전체 save X)
+            for (Evento series : eventoRepo.findByTitleAndCalendarIdAndRecurrenceIsNotNull(title, calendarId)) {
+                if (RecurrenceExpander.occursAt(series, dateTime)) {
+                    Map<String, Object> result = eventService.deleteEvent(uid,
+                            RecurrenceExpander.occurrenceId(series.getId(), dateTime));
+                    return Boolean.TRUE.equals(result.get("ok"))
+                            ? Map.of("ok", true, "msg", "삭제 완료")
+                            : result;
+                }
+            }
             return Map.of("ok", false, "msg", "삭제할 일정이 없습니다.");
         }
 
-        eventoRepo.delete(opt.get());
-        return Map.of("ok", true, "msg", "삭제 완료");
+        // DELETE 와 같은 경로 (작성자 / editor / owner 만)
+        Map<String, Object> result = eventService.deleteEvent(uid, opt.get().getId());
+        return Boolean.TRUE.equals(result.get("ok"))
+                ? Map.of("ok", true, "msg", "삭제 완료")
+                : result;
 
     } catch (Exception e) {
+        log.warn("deleteEvent failed", e);
         return Map.of("ok", false, "msg", "삭제 중 오류");
     }
 }
@@ -557,24 +708,52 @@ public Map<String, Object> deleteEvent(
 /* ==========================================================
    18) AI: 간단 추천 기능
    ========================================================== */
-public Map<String, Object> recommendSchedule(String uid) {
-    return Map.of(
-            "ok", true,
-            "msg", "사용자의 빈 시간대는 오후 3시 ~ 5시입니다. 이 시간에 회의 어떨까요?"
-    );
+private static final DateTimeFormatter SLOT_FORMAT = DateTimeFormatter.ofPattern("M/d(E) HH:mm", Locale.KOREAN);
+
+// duration: 요청한 일정 길이 (null 이면 recommend.duration)
+public Map<String, Object> recommendSchedule(String uid, LocalDate fromDay, Duration duration) {
+    try {
+        Duration length = duration != null ? duration : slotDuration;
+
+        // fromDay 부터 recommend.days 일 동안, 지금 이전은 제외
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = fromDay.atStartOfDay().isAfter(now) ? fromDay.atStartOfDay() : now;
+        LocalDateTime to = fromDay.plusDays(searchDays).atStartOfDay();
+
+        if (!from.isBefore(to)) {
+            return Map.of("ok", false, "msg", "추천할 수 있는 기간이 지났습니다.");
+        }
+
+        List<FreeSlotFinder.Slot> busy = new ArrayList<>();
+        for (Evento ev : eventService.eventsInWindow(uid, from, to)) {
+            busy.add(new FreeSlotFinder.Slot(ev.getStart(), ev.getEnd()));
+        }
+
+        List<FreeSlotFinder.Slot> slots = FreeSlotFinder.find(busy, from, to, length,
+                LocalTime.parse(workStart), LocalTime.parse(workEnd), slotLimit);
+
+        if (slots.isEmpty()) {
+            return Map.of("ok", true, "slots", slots,
+                    "msg", "기간 안에 " + length.toMinutes() + "분 이상 빈 시간이 없습니다.");
+        }
+
+        String text = slots.stream()
+                .map(s -> s.start().format(SLOT_FORMAT) + " ~ " + s.end().toLocalTime())
+                .collect(Collectors.joining(", "));
+
+        return Map.of("ok", true, "slots", slots,
+                "msg", "비어 있는 시간: " + text + ". 이 시간에 일정 어떨까요?");
+
+    } catch (Exception e) {
+        log.warn("recommendSchedule failed", e);
+        return Map.of("ok", false, "msg", "Hable con el administrador");
+    }
 }
 public String getDefaultCalendar(String uid) {
     // 사용자가 가진 캘린더 중 첫 번째 반환
-    List<Calendar> list = calendarRepo.findAll().stream()
-            .filter(c -> Objects.equals(c.getOwner(), uid)
-                    || c.getMembers().stream().anyMatch(m -> Objects.equals(m.getUser(), uid)))
-            .collect(Collectors.toList());
-
-    if (list.isEmpty()) {
-        throw new RuntimeException("사용자에게 캘린더가 없습니다.");
-    }
-
-    return list.get(0).getId();
+    return calendarRepo.findFirstByOwnerOrMembersUser(uid, uid)
+            .map(Calendar::getId)
+            .orElseThrow(() -> new RuntimeException("사용자에게 캘린더가 없습니다."));
 }
 
 // 15) AI: 매주 반복 일정 추가
@@ -588,37 +767,37 @@ public Map<String, Object> addWeeklyEvents(
 ) {
     try {
         // 캘린더 존재/권한 확인은 addEvent와 비슷하게
-        Calendar cal = calendarRepo.findById(calendarId)
+        CalendarAccess.Access access = calendarAccess.get(calendarId)
                 .orElseThrow(() -> new RuntimeException("Calendar not found"));
 
-        boolean isOwner = Objects.equals(cal.getOwner(), uid);
-        boolean isMember = cal.getMembers().stream()
-                .anyMatch(m -> Objects.equals(m.getUser(), uid));
-
-        if (!isOwner && !isMember) {
+        if (!access.canView(uid)) {
             return Map.of("ok", false, "msg", "권한이 없습니다.");
         }
 
-        List<Evento> created = new ArrayList<>();
+        // ⭐ 회차마다 문서를 만들지 않고 반복 규칙을 가진 시리즈 하나로 저장
+        Recurrence rule = new Recurrence();
+        rule.setFreq("weekly");
+        rule.setCount(repeatCount);
 
-        for (int i = 0; i < repeatCount; i++) {
-            LocalDateTime dt = firstDateTime.plusWeeks(i);
-
-            Evento ev = new Evento();
-            ev.setTitle(title == null ? "" : title);
-            ev.setNotes(details == null ? "" : details);
-            ev.setStart(dt);
-            ev.setEnd(dt.plusHours(1));
-            ev.setCalendarId(calendarId);
-            ev.setUser(uid);
+        Evento ev = new Evento();
+        ev.setTitle(title == null ? "" : title);
+        ev.setNotes(details == null ? "" : details);
+        ev.setStart(firstDateTime);
+        ev.setEnd(firstDateTime.plusHours(1));
+        ev.setCalendarId(calendarId);
+        ev.setUser(uid);
+        ev.setRecurrence(rule);
 
-            eventoRepo.save(ev);
-            created.add(ev);
-        }
+        RecurrenceExpander.prepare(ev);
+        eventSync.stamp(ev);
+        List<Evento> created = List.of(eventoRepo.save(ev));
+        intervalIndex.put(ev);
+        changes.publishEvent(CalendarChange.event(CalendarChange.EVENT_CREATED, ev));
 
         return Map.of("ok", true, "events", created);
 
     } catch (Exception e) {
+        log.warn("addWeeklyEvents failed", e);
         return Map.of("ok", false, "msg", "반복 일정 생성 오류");
     }
 }
@@ -0,0 +1,190 @@
+package com.example.calendar.service;
+
+import com.example.calendar.entity.Evento;
+import com.example.calendar.repository.EventoRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 캘린더별 일정 구간 인덱스 (겹치는 일정 찾기용).
+ * 처음 조회할 때 캘린더의 start/end 만 읽어 IntervalTree 로 만들고,
+ * 이후 일정 생성 / 수정 / 삭제 시 put() / remove() 로 맞춘다.
+ * 반복 일정은 [start, seriesEnd) 로 넣고, 후보가 되면 회차를 펼쳐 다시 확인.
+ * 여러 서버일 때를 위해 TTL 마다 다시 만든다 (events.interval-index.ttl).
+ * 캐시 크기는 캘린더 수가 아니라 트리에 든 일정 수 합계로 제한 (events.interval-index.max-events).
+ */
+@Component
+public class EventIntervalIndex {
+
+    @Value("${events.interval-index.max-events:2000000}")
+    private long maxEvents;
+
+    @Value("${events.interval-index.ttl:10m}")
+    private Duration ttl;
+
+    @Autowired
+    private EventoRepository eventoRepo;
+
+    @Autowired
+    private MeterRegistry meters;
+
+    private Cache<String, CalendarIndex> cache;
+
+    private record Span(LocalDateTime start, LocalDateTime end) {}
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxEvents)
+                .weigher((String id, CalendarIndex index) -> Math.max(1, index.size()))
+                // 만든 시점부터 ttl (put / remove 로 고쳐도 늘어나지 않게 → 다른 서버 변경도 ttl 안에 반영)
+                .expireAfter(Expiry.creating((String id, CalendarIndex index) -> ttl))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meters, cache, "events.interval-index");
+    }
+
+    // ⭐ [from, to) 와 겹치는 일정 (반복 일정은 겹치는 첫 회차)
+    public List<Evento> overlapping(String calendarId, LocalDateTime from, LocalDateTime to, String excludeId) {
+        return find(calendarId, List.of(new Span(from, to)), excludeId);
+    }
+
+    // ⭐ 저장하려는 일정과 겹치는 다른 일정 (반복 일정이면 회차마다 확인)
+    public List<Evento> conflictsOf(Evento ev) {
+        return conflictsOf(ev, ev.getId());
+    }
+
+    // excludeId 가 회차 id 면 그 회차만 제외 (회차 하나를 옮기는 경우)
+    public List<Evento> conflictsOf(Evento ev, String excludeId) {
+        if (ev.getStart() == null || ev.getEnd() == null) return List.of();
+
+        List<Span> windows = new ArrayList<>();
+        if (ev.getRecurrence() == null) {
+            windows.add(new Span(ev.getStart(), ev.getEnd()));
+        } else {
+            for (Evento occ : RecurrenceExpander.expand(ev, null, null, RecurrenceExpander.MAX_OCCURRENCES)) {
+                windows.add(new Span(occ.getStart(), occ.getEnd()));
+            }
+        }
+
+        return find(ev.getCalendarId(), windows, excludeId);
+    }
+
+    // 저장 후 호출 (인덱스가 아직 없는 캘린더는 다음 조회 때 새로 읽음)
+    public void put(Evento ev) {
+        if (ev.getCalendarId() == null) return;
+        update(ev.getCalendarId(), index -> index.put(ev.getId(), ev.getStart(), spanEnd(ev)));
+    }
+
+    public void remove(String calendarId, String eventId) {
+        if (calendarId == null) return;
+        update(calendarId, index -> index.remove(eventId));
+    }
+
+    // ⭐ getIfPresent 대신 compute: 같은 캘린더를 load() 중이면 끝날 때까지 기다렸다가 반영
+    //    (load 가 저장 전에 읽었어도 변경이 빠지지 않음), 크기가 바뀐 만큼 weight 도 다시 계산
+    private void update(String calendarId, Consumer<CalendarIndex> change) {
+        cache.asMap().compute(calendarId, (id, index) -> {
+            if (index != null) change.accept(index);
+            return index;
+        });
+    }
+
+    public void invalidate(String calendarId) {
+        if (calendarId != null) cache.invalidate(calendarId);
+    }
+
+    private List<Evento> find(String calendarId, List<Span> windows, String excludeId) {
+        if (calendarId == null || windows.isEmpty()) return List.of();
+
+        Set<String> ids = cache.get(calendarId, this::load).query(windows);
+
+        // 회차 id 면 시리즈는 남기고 그 회차만 건너뜀
+        RecurrenceExpander.OccurrenceRef excluded = RecurrenceExpander.parseOccurrenceId(excludeId);
+        if (excludeId != null && excluded == null) ids.remove(excludeId);
+        if (ids.isEmpty()) return List.of();
+
+        // 후보만 읽어서 반환 (반복 일정은 실제 겹치는 회차가 있는지 확인)
+        List<Evento> out = new ArrayList<>();
+        for (Evento doc : eventoRepo.findAllById(ids)) {
+            if (doc.getRecurrence() == null) {
+                out.add(doc);
+                continue;
+            }
+            Evento hit = null;
+            for (Span w : windows) {
+                // 제외할 회차가 하나 있을 수 있으므로 2개까지
+                for (Evento occ : RecurrenceExpander.expand(doc, w.start(), w.end(), 2)) {
+                    if (excluded != null && excluded.seriesId().equals(doc.getId())
+                            && excluded.start().equals(occ.getStart())) continue;
+                    hit = occ;
+                    break;
+                }
+                if (hit != null) break;
+            }
+            if (hit != null) out.add(hit);
+        }
+
+        out.sort(Comparator.comparing(Evento::getStart));
+        return out;
+    }
+
+    private CalendarIndex load(String calendarId) {
+        CalendarIndex index = new CalendarIndex();
+        for (Evento ev : eventoRepo.findSpansByCalendarId(calendarId)) {
+            index.put(ev.getId(), ev.getStart(), spanEnd(ev));
+        }
+        return index;
+    }
+
+    // 반복 일정은 시리즈 전체 기간
+    private static LocalDateTime spanEnd(Evento ev) {
+        return ev.getRecurrence() != null ? ev.getRecurrence().getSeriesEnd() : ev.getEnd();
+    }
+
+    private static final class CalendarIndex {
+
+        private final IntervalTree tree = new IntervalTree();
+
+        // id → 트리에 넣은 start (삭제 / 수정용)
+        private final Map<String, LocalDateTime> starts = new HashMap<>();
+
+        synchronized void put(String id, LocalDateTime start, LocalDateTime end) {
+            remove(id);
+            if (id == null || start == null || end == null || end.isBefore(start)) return;
+
+            tree.insert(id, start, end);
+            starts.put(id, start);
+        }
+
+        synchronized void remove(String id) {
+            LocalDateTime start = starts.remove(id);
+            if (start != null) tree.remove(id, start);
+        }
+
+        synchronized int size() {
+            return tree.size();
+        }
+
+        synchronized Set<String> query(List<Span> windows) {
+            Set<String> ids = new LinkedHashSet<>();
+            for (Span w : windows) {
+                tree.query(w.start(), w.end(), ids::add);
+            }
+            return ids;
+        }
+    }
+}
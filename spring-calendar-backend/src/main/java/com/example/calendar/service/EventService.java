@@ -2,86 +2,335 @@ package com.example.calendar.service;
 
 import com.example.calendar.entity.Calendar;
 import com.example.calendar.entity.Evento;
+import com.example.calendar.feed.CalendarChange;
 import com.example.calendar.repository.CalendarRepository;
 import com.example.calendar.repository.EventoRepository;
 
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "event.service", histogram = true)   // public 메서드마다 class / method 태그로 기록
 public class EventService {
 
+    private static final Logger log = LoggerFactory.getLogger(EventService.class);
+
     @Autowired
     private EventoRepository eventoRepo;
 
     @Autowired
     private CalendarRepository calendarRepo;
 
+    @Autowired
+    private CalendarAccess calendarAccess;
+
+    @Autowired
+    private EventIntervalIndex intervalIndex;
+
+    @Autowired
+    private ApplicationEventPublisher changes;
+
+    @Autowired
+    private EventSync eventSync;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    // from / to 중 하나만 온 경우 열린 쪽 경계
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 23, 59);
+
+    private static final int MAX_PAGE_SIZE = 1000;
 
     /* ==========================================================
-       1) GET /api/events
+       1) GET /api/events?calendarId=&from=&to=
        ========================================================== */
-    public Map<String, Object> getEvents(String uid, String calendarId) {
+    public Map<String, Object> getEvents(String uid, String calendarId,
+                                         LocalDateTime from, LocalDateTime to) {
 
         try {
-            // owner 또는 member
-            List<String> allowed = calendarRepo.findAll().stream()
-                    .filter(c ->
-                            Objects.equals(c.getOwner(), uid) ||
-                            c.getMembers().stream()
-                                    .anyMatch(m -> Objects.equals(m.getUser(), uid))
-                    )
-                    .map(Calendar::getId)
-                    .collect(Collectors.toList());
+            List<String> ids = targetCalendarIds(uid, calendarId);
+            if (ids == null) {
+                return Map.of("ok", false, "msg", "No autorizado para este calendario");
+            }
 
             List<Evento> eventos;
 
-            if (calendarId != null) {
-                if (!allowed.contains(calendarId)) {
-                    return Map.of("ok", false, "msg", "No autorizado para este calendario");
+            if (from != null || to != null) {
+                LocalDateTime rangeFrom = from == null ? MIN_DATE : from;
+                LocalDateTime rangeTo = to == null ? MAX_DATE : to;
+
+                if (!rangeFrom.isBefore(rangeTo)) {
+                    return Map.of("ok", false, "msg", "Rango de fechas inválido");
                 }
-                eventos = eventoRepo.findByCalendarId(calendarId);
+
+                eventos = loadWindow(ids, rangeFrom, rangeTo);
             } else {
-                eventos = eventoRepo.findByCalendarIdIn(allowed);
+                eventos = new ArrayList<>();
+                for (Evento ev : eventoRepo.findByCalendarIdIn(ids)) {
+                    if (ev.getRecurrence() == null) {
+                        eventos.add(ev);
+                    } else {
+                        eventos.addAll(RecurrenceExpander.expand(
+                                ev, null, null, RecurrenceExpander.MAX_OCCURRENCES));
+                    }
+                }
             }
 
             return Map.of("ok", true, "eventos", eventos);
 
         } catch (Exception e) {
+            log.warn("getEvents failed", e);
+            return Map.of("ok", false, "msg", "Hable con el administrador");
+        }
+    }
+
+
+    // 내 모든 캘린더에서 [from, to) 와 겹치는 일정 (반복 일정은 회차로 펼침)
+    public List<Evento> eventsInWindow(String uid, LocalDateTime from, LocalDateTime to) {
+        return loadWindow(targetCalendarIds(uid, null), from, to);
+    }
+
+    private List<Evento> loadWindow(List<String> ids, LocalDateTime from, LocalDateTime to) {
+        // ⭐ 기간과 겹치는 일정만 (calendarId + start + end 인덱스)
+        List<Evento> eventos = new ArrayList<>(eventoRepo
+                .findByCalendarIdInAndRecurrenceIsNullAndStartLessThanAndEndGreaterThan(ids, to, from));
+
+        // ⭐ 반복 일정은 기간 안의 회차만 펼침
+        for (Evento series : eventoRepo
+                .findByCalendarIdInAndRecurrenceIsNotNullAndStartLessThanAndRecurrenceSeriesEndGreaterThan(ids, to, from)) {
+            eventos.addAll(RecurrenceExpander.expand(
+                    series, from, to, RecurrenceExpander.MAX_OCCURRENCES));
+        }
+        return eventos;
+    }
+
+
+    /* ==========================================================
+       1-1) GET /api/events/page — 커서(keyset) 페이지 조회
+            정렬: start, _id  /  cursor = 이전 페이지 마지막 일정
+       ========================================================== */
+    public Map<String, Object> getEventsPage(String uid, String calendarId,
+                                             LocalDateTime from, LocalDateTime to,
+                                             String cursor, int limit) {
+
+        try {
+            List<String> ids = targetCalendarIds(uid, calendarId);
+            if (ids == null) {
+                return Map.of("ok", false, "msg", "No autorizado para este calendario");
+            }
+
+            LocalDateTime rangeFrom = from == null ? MIN_DATE : from;
+            LocalDateTime rangeTo = to == null ? MAX_DATE : to;
+
+            if (!rangeFrom.isBefore(rangeTo)) {
+                return Map.of("ok", false, "msg", "Rango de fechas inválido");
+            }
+
+            int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+            // 다음 페이지 존재 여부 확인용으로 1개 더 읽음
+            Limit fetch = Limit.of(size + 1);
+
+            List<Evento> eventos;
+
+            if (cursor == null || cursor.isBlank()) {
+                eventos = eventoRepo.findPage(ids, rangeFrom, rangeTo, fetch);
+            } else {
+                String[] after = decodeCursor(cursor);
+                if (after == null) {
+                    return Map.of("ok", false, "msg", "Cursor inválido");
+                }
+                eventos = eventoRepo.findPageAfter(ids, rangeFrom, rangeTo,
+                        LocalDateTime.parse(after[0]), after[1], fetch);
+            }
+
+            String nextCursor = null;
+            if (eventos.size() > size) {
+                eventos = eventos.subList(0, size);
+                nextCursor = encodeCursor(eventos.get(size - 1));
+            }
+
+            Map<String, Object> res = new LinkedHashMap<>();
+            res.put("ok", true);
+            res.put("eventos", eventos);
+            res.put("nextCursor", nextCursor);
+            return res;
+
+        } catch (Exception e) {
+            log.warn("getEventsPage failed", e);
             return Map.of("ok", false, "msg", "Hable con el administrador");
         }
     }
 
 
+    /* ==========================================================
+       1-2) GET /api/events/stream — Mongo 커서에서 바로 스트리밍
+            반환된 Stream 은 호출한 쪽에서 close 해야 함
+            (1-1, 1-2 는 반복 일정을 시리즈 문서 그대로 반환)
+       ========================================================== */
+    public Stream<Evento> streamEvents(String uid, String calendarId,
+                                       LocalDateTime from, LocalDateTime to) {
+
+        List<String> ids = targetCalendarIds(uid, calendarId);
+        if (ids == null) {
+            throw new RuntimeException("No autorizado para este calendario");
+        }
+
+        if (from == null && to == null) {
+            return eventoRepo.streamByCalendarIdIn(ids);
+        }
+
+        LocalDateTime rangeFrom = from == null ? MIN_DATE : from;
+        LocalDateTime rangeTo = to == null ? MAX_DATE : to;
+
+        if (!rangeFrom.isBefore(rangeTo)) {
+            throw new RuntimeException("Rango de fechas inválido");
+        }
+
+        return eventoRepo.streamWindow(ids, rangeFrom, rangeTo);
+    }
+
+
+    /* ==========================================================
+       1-3) GET /api/events/conflicts — [from, to) 와 겹치는 일정
+       ========================================================== */
+    public Map<String, Object> getConflicts(String uid, String calendarId,
+                                            LocalDateTime from, LocalDateTime to,
+                                            String excludeId) {
+
+        try {
+            if (targetCalendarIds(uid, calendarId) == null) {
+                return Map.of("ok", false, "msg", "No autorizado para este calendario");
+            }
+
+            if (!from.isBefore(to)) {
+                return Map.of("ok", false, "msg", "Rango de fechas inválido");
+            }
+
+            return Map.of("ok", true,
+                    "conflicts", intervalIndex.overlapping(calendarId, from, to, excludeId));
+
+        } catch (Exception e) {
+            log.warn("getConflicts failed", e);
+            return Map.of("ok", false, "msg", "Hable con el administrador");
+        }
+    }
+
+
+    /* ==========================================================
+       1-4) GET /api/events/sync?calendarId=&token= — 변경분 동기화
+       ========================================================== */
+    // 권한이 없거나 ETag 를 줄 수 없는 순간이면 null
+    public String syncEtag(String uid, String calendarId) {
+        if (targetCalendarIds(uid, calendarId) == null) return null;
+        return eventSync.etag(calendarId);
+    }
+
+    public Map<String, Object> syncEvents(String uid, String calendarId, String token) {
+
+        try {
+            if (targetCalendarIds(uid, calendarId) == null) {
+                return Map.of("ok", false, "msg", "No autorizado para este calendario");
+            }
+
+            return eventSync.changesSince(calendarId, token);
+
+        } catch (Exception e) {
+            log.warn("syncEvents failed", e);
+            return Map.of("ok", false, "msg", "Hable con el administrador");
+        }
+    }
+
+
+    // 조회 대상 캘린더 id 목록 (권한 없으면 null)
+    private List<String> targetCalendarIds(String uid, String calendarId) {
+        if (calendarId != null) {
+            boolean canView = calendarAccess.get(calendarId)
+                    .map(a -> a.canView(uid))
+                    .orElse(false);
+            return canView ? List.of(calendarId) : null;
+        }
+
+        // owner 또는 member (인덱스 조회, _id 만)
+        return calendarRepo.findIdsByOwnerOrMember(uid).stream()
+                .map(Calendar::getId)
+                .collect(Collectors.toList());
+    }
+
+    private String encodeCursor(Evento last) {
+        String raw = last.getStart() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) return null;
+            LocalDateTime.parse(parts[0]);
+            return parts;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+
     /* ==========================================================
        2) POST /api/events — 생성 (editor/owner만)
        ========================================================== */
-    public Map<String, Object> createEvent(String uid, Evento data) {
+    public Map<String, Object> createEvent(String uid, Evento data, boolean rejectOnConflict) {
 
         try {
-            Calendar cal = calendarRepo.findById(data.getCalendarId()).orElse(null);
-            if (cal == null) return Map.of("ok", false, "msg", "Calendar no existe");
+            CalendarAccess.Access access = calendarAccess.get(data.getCalendarId()).orElse(null);
+            if (access == null) return Map.of("ok", false, "msg", "Calendar no existe");
 
             // 🔥 editor 또는 owner만 생성 가능
-            boolean canEdit =
-                    Objects.equals(cal.getOwner(), uid) ||
-                    cal.getMembers().stream().anyMatch(
-                            m -> Objects.equals(m.getUser(), uid) &&
-                                 m.getRole().equals("editor")
-                    );
+            boolean canEdit = access.canEdit(uid);
 
             if (!canEdit)
                 return Map.of("ok", false, "msg", "No autorizado");
 
+            if (data.getRecurrence() != null) {
+                if (!RecurrenceExpander.isValid(data.getRecurrence()))
+                    return Map.of("ok", false, "msg", "Repetición inválida");
+                RecurrenceExpander.prepare(data);
+            }
+
             data.setUser(uid);
+
+            if (rejectOnConflict) {
+                List<Evento> conflicts = intervalIndex.conflictsOf(data);
+                if (!conflicts.isEmpty())
+                    return Map.of("ok", false, "msg", "Conflicto de horario", "conflicts", conflicts);
+            }
+
+            eventSync.stamp(data);
             Evento saved = eventoRepo.save(data);
+            intervalIndex.put(saved);
+            changes.publishEvent(CalendarChange.event(CalendarChange.EVENT_CREATED, saved));
 
             return Map.of("ok", true, "evento", saved);
 
         } catch (Exception e) {
+            log.warn("createEvent failed", e);
             return Map.of("ok", false, "msg", "Hable con el administrador");
         }
     }
@@ -90,25 +339,23 @@ public class EventService {
 
     /* ==========================================================
        3) PUT /api/events/:id — 수정 (작성자/editor/owner만)
+            id 가 회차 id 면 그 회차만 (시리즈는 그대로)
        ========================================================== */
-    public Map<String, Object> updateEvent(String uid, String id, Evento data) {
+    public Map<String, Object> updateEvent(String uid, String id, Evento data, boolean rejectOnConflict) {
 
         try {
+            RecurrenceExpander.OccurrenceRef occ = RecurrenceExpander.parseOccurrenceId(id);
+            if (occ != null) return updateOccurrence(uid, id, occ, data, rejectOnConflict);
+
             Evento old = eventoRepo.findById(id).orElse(null);
             if (old == null) return Map.of("ok", false, "msg", "Evento no existe");
 
-            Calendar cal = calendarRepo.findById(old.getCalendarId()).orElse(null);
-            if (cal == null) return Map.of("ok", false, "msg", "Calendar no existe");
+            CalendarAccess.Access access = calendarAccess.get(old.getCalendarId()).orElse(null);
+            if (access == null) return Map.of("ok", false, "msg", "Calendar no existe");
 
             boolean isOwnerOfEvent = Objects.equals(old.getUser(), uid);
 
-            boolean canEdit =
-                    isOwnerOfEvent ||
-                    Objects.equals(cal.getOwner(), uid) ||
-                    cal.getMembers().stream().anyMatch(
-                            m -> Objects.equals(m.getUser(), uid) &&
-                                 m.getRole().equals("editor")
-                    );
+            boolean canEdit = isOwnerOfEvent || access.canEdit(uid);
 
             if (!canEdit)
                 return Map.of("ok", false, "msg", "No autorizado");
@@ -118,49 +365,188 @@ public class EventService {
             old.setStart(data.getStart());
             old.setEnd(data.getEnd());
             old.setColor(data.getColor());
+            // 예전 클라이언트는 recurrence 를 보내지 않음 → 생략하면 저장된 반복 규칙(제외 날짜 포함) 유지
+            if (data.isRecurrenceSet()) old.setRecurrence(data.getRecurrence());
 
-            Evento saved = eventoRepo.save(old);
+            if (old.getRecurrence() != null) {
+                if (!RecurrenceExpander.isValid(old.getRecurrence()))
+                    return Map.of("ok", false, "msg", "Repetición inválida");
+                RecurrenceExpander.prepare(old);
+            }
+
+            if (rejectOnConflict) {
+                List<Evento> conflicts = intervalIndex.conflictsOf(old);
+                if (!conflicts.isEmpty())
+                    return Map.of("ok", false, "msg", "Conflicto de horario", "conflicts", conflicts);
+            }
+
+            eventSync.stamp(old);
+
+            // ⭐ 바뀌는 필드만 $set / $unset (user, calendarId 등은 그대로) → 바뀐 문서를 한 번에 받음
+            Update update = new Update()
+                    .set("version", old.getVersion())
+                    .set("updatedAt", old.getUpdatedAt());
+            setOrUnset(update, "title", old.getTitle());
+            setOrUnset(update, "notes", old.getNotes());
+            setOrUnset(update, "start", old.getStart());
+            setOrUnset(update, "end", old.getEnd());
+            setOrUnset(update, "color", old.getColor());
+            setOrUnset(update, "recurrence", old.getRecurrence());   // seriesEnd 포함
+
+            // ⭐ 더 새 번호가 이미 들어가 있으면 덮어쓰지 않음 (동시 PUT 에서 늦게 도착한 옛 수정이 이기지 않게)
+            Query query = Query.query(Criteria.where("_id").is(id).and("calendarId").is(old.getCalendarId()));
+            Evento saved = mongoTemplate.findAndModify(
+                    query.addCriteria(new Criteria().orOperator(
+                            Criteria.where("version").lt(old.getVersion()),
+                            Criteria.where("version").is(null))),
+                    update, FindAndModifyOptions.options().returnNew(true), Evento.class);
+
+            if (saved == null) {
+                if (!mongoTemplate.exists(Query.query(Criteria.where("_id").is(id)), Evento.class))
+                    return Map.of("ok", false, "msg", "Evento no existe");   // 그 사이 삭제됨
+                return Map.of("ok", false, "msg", "Evento modificado por otro usuario");   // 더 새 수정에 밀림
+            }
+
+            intervalIndex.put(saved);
+            changes.publishEvent(CalendarChange.event(CalendarChange.EVENT_UPDATED, saved));
 
             return Map.of("ok", true, "evento", saved);
 
         } catch (Exception e) {
+            log.warn("updateEvent failed", e);
             return Map.of("ok", false, "msg", "Hable con el administrador");
         }
     }
 
+    // save() 와 같게 null 이면 필드 제거
+    private static void setOrUnset(Update update, String key, Object value) {
+        if (value == null) update.unset(key);
+        else update.set(key, value);
+    }
+
 
 
     /* ==========================================================
        4) DELETE /api/events/:id — 삭제 (작성자/editor/owner만)
+            id 가 회차 id 면 그 회차만 제외 날짜로
        ========================================================== */
     public Map<String, Object> deleteEvent(String uid, String id) {
 
         try {
+            RecurrenceExpander.OccurrenceRef occ = RecurrenceExpander.parseOccurrenceId(id);
+            if (occ != null) return deleteOccurrence(uid, occ);
+
             Evento old = eventoRepo.findById(id).orElse(null);
             if (old == null) return Map.of("ok", false, "msg", "Evento no existe");
 
-            Calendar cal = calendarRepo.findById(old.getCalendarId()).orElse(null);
-            if (cal == null) return Map.of("ok", false, "msg", "Calendar no existe");
+            CalendarAccess.Access access = calendarAccess.get(old.getCalendarId()).orElse(null);
+            if (access == null) return Map.of("ok", false, "msg", "Calendar no existe");
 
             boolean isOwnerOfEvent = Objects.equals(old.getUser(), uid);
 
-            boolean canDelete =
-                    isOwnerOfEvent ||
-                    Objects.equals(cal.getOwner(), uid) ||
-                    cal.getMembers().stream().anyMatch(
-                            m -> Objects.equals(m.getUser(), uid) &&
-                                 m.getRole().equals("editor")
-                    );
+            boolean canDelete = isOwnerOfEvent || access.canEdit(uid);
 
             if (!canDelete)
                 return Map.of("ok", false, "msg", "No autorizado");
 
             eventoRepo.deleteById(id);
+            intervalIndex.remove(old.getCalendarId(), id);
+            eventSync.tombstone(old.getCalendarId(), id);
+            changes.publishEvent(CalendarChange.eventDeleted(old.getCalendarId(), id));
 
             return Map.of("ok", true);
 
         } catch (Exception e) {
+            log.warn("deleteEvent failed", e);
             return Map.of("ok", false, "msg", "Hable con el administrador");
         }
     }
+
+
+
+    /* ==========================================================
+       5) 반복 일정의 회차 하나 수정 / 삭제
+          수정 = 시리즈에 제외 날짜 추가 + 그 회차를 대신하는 단일 일정
+          삭제 = 시리즈에 제외 날짜 추가
+       ========================================================== */
+    private Map<String, Object> updateOccurrence(String uid, String occurrenceId,
+                                                 RecurrenceExpander.OccurrenceRef occ,
+                                                 Evento data, boolean rejectOnConflict) {
+
+        Evento series = eventoRepo.findById(occ.seriesId()).orElse(null);
+        if (series == null || !RecurrenceExpander.isActiveOccurrence(series, occ.start()))
+            return Map.of("ok", false, "msg", "Evento no existe");
+
+        Map<String, Object> denied = checkCanEdit(uid, series);
+        if (denied != null) return denied;
+
+        // 회차 하나는 단일 일정으로만 바꿈 (반복 규칙은 무시)
+        Evento single = new Evento();
+        single.setTitle(data.getTitle());
+        single.setNotes(data.getNotes());
+        single.setStart(data.getStart() != null ? data.getStart() : occ.start());
+        single.setEnd(data.getEnd() != null ? data.getEnd()
+                : series.getEnd() == null ? null
+                : occ.start().plus(Duration.between(series.getStart(), series.getEnd())));
+        single.setColor(data.getColor());
+        single.setUser(series.getUser());
+        single.setCalendarId(series.getCalendarId());
+
+        if (rejectOnConflict) {
+            List<Evento> conflicts = intervalIndex.conflictsOf(single, occurrenceId);
+            if (!conflicts.isEmpty())
+                return Map.of("ok", false, "msg", "Conflicto de horario", "conflicts", conflicts);
+        }
+
+        Evento updatedSeries = excludeOccurrence(series, occ.start());
+        if (updatedSeries == null) return Map.of("ok", false, "msg", "Evento no existe");
+
+        eventSync.stamp(single);
+        Evento saved = eventoRepo.save(single);
+        intervalIndex.put(saved);
+        changes.publishEvent(CalendarChange.event(CalendarChange.EVENT_UPDATED, updatedSeries));
+        changes.publishEvent(CalendarChange.event(CalendarChange.EVENT_CREATED, saved));
+
+        return Map.of("ok", true, "evento", saved);
+    }
+
+    private Map<String, Object> deleteOccurrence(String uid, RecurrenceExpander.OccurrenceRef occ) {
+
+        Evento series = eventoRepo.findById(occ.seriesId()).orElse(null);
+        if (series == null || !RecurrenceExpander.isActiveOccurrence(series, occ.start()))
+            return Map.of("ok", false, "msg", "Evento no existe");
+
+        Map<String, Object> denied = checkCanEdit(uid, series);
+        if (denied != null) return denied;
+
+        Evento updatedSeries = excludeOccurrence(series, occ.start());
+        if (updatedSeries == null) return Map.of("ok", false, "msg", "Evento no existe");
+
+        changes.publishEvent(CalendarChange.event(CalendarChange.EVENT_UPDATED, updatedSeries));
+        return Map.of("ok", true);
+    }
+
+    // 작성자 / editor / owner 가 아니면 오류 응답
+    private Map<String, Object> checkCanEdit(String uid, Evento ev) {
+        CalendarAccess.Access access = calendarAccess.get(ev.getCalendarId()).orElse(null);
+        if (access == null) return Map.of("ok", false, "msg", "Calendar no existe");
+
+        if (!Objects.equals(ev.getUser(), uid) && !access.canEdit(uid))
+            return Map.of("ok", false, "msg", "No autorizado");
+        return null;
+    }
+
+    // ⭐ 시리즈에 제외 날짜만 $addToSet (+ 동기화 번호). 시리즈 기간은 그대로라 구간 인덱스는 손대지 않음
+    // $addToSet 은 순서와 무관하게 합쳐지므로 번호만 $max 로 (늦게 도착해도 더 작은 번호로 되돌리지 않음)
+    private Evento excludeOccurrence(Evento series, LocalDateTime start) {
+        eventSync.stamp(series);
+
+        return mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(series.getId())),
+                new Update()
+                        .addToSet("recurrence.exdates", start.toLocalDate())
+                        .max("version", series.getVersion())
+                        .max("updatedAt", series.getUpdatedAt()),
+                FindAndModifyOptions.options().returnNew(true), Evento.class);
+    }
 }
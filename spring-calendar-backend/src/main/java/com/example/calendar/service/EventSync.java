@@ -0,0 +1,157 @@
+package com.example.calendar.service;
+
+import com.example.calendar.entity.Evento;
+import com.example.calendar.entity.EventoTombstone;
+import com.example.calendar.entity.SyncCounter;
+import com.example.calendar.repository.EventoRepository;
+import com.example.calendar.repository.EventoTombstoneRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * 변경분 동기화.
+ * 일정을 저장할 때마다 캘린더별 번호(calendar_sync.version)를 $inc 로 받아 Evento.version 에 넣고,
+ * 삭제는 evento_tombstones 에 남긴다.
+ * sync token = (마지막으로 본 번호, 조회 시각). 번호 발급과 저장 사이에 끼어든 변경을 놓치지 않도록
+ * token 시각 - events.sync.overlap 이후에 바뀐 것도 함께 다시 보냄 (클라이언트는 id 기준으로 덮어쓰기).
+ */
+@Component
+public class EventSync {
+
+    // evento_tombstones TTL 과 같게 (이보다 오래된 token 은 전체 동기화)
+    static final Duration TOMBSTONE_RETENTION = Duration.ofDays(30);
+
+    @Value("${events.sync.overlap:5s}")
+    private Duration overlap;
+
+    @Autowired
+    private MongoTemplate mongo;
+
+    @Autowired
+    private EventoRepository eventoRepo;
+
+    @Autowired
+    private EventoTombstoneRepository tombstoneRepo;
+
+    private record SyncToken(long version, LocalDateTime at) {}
+
+    // ⭐ 저장 직전 호출: 새 번호 + updatedAt
+    public void stamp(Evento ev) {
+        SyncCounter counter = next(ev.getCalendarId(), 1);
+        ev.setVersion(counter.getVersion());
+        ev.setUpdatedAt(counter.getAt());
+    }
+
+    // ⭐ 대량 저장용: 번호를 한 번에 batch 크기만큼 받아서 나눠 줌
+    public void stampAll(String calendarId, List<Evento> batch) {
+        if (batch.isEmpty()) return;
+
+        SyncCounter counter = next(calendarId, batch.size());
+        long version = counter.getVersion() - batch.size();
+        for (Evento ev : batch) {
+            ev.setVersion(++version);
+            ev.setUpdatedAt(counter.getAt());
+        }
+    }
+
+    // ⭐ 삭제 후 호출
+    public void tombstone(String calendarId, String eventId) {
+        SyncCounter counter = next(calendarId, 1);
+        tombstoneRepo.save(new EventoTombstone(eventId, calendarId, counter.getVersion(), counter.getAt()));
+    }
+
+    // 캘린더 삭제 시
+    public void forget(String calendarId) {
+        tombstoneRepo.deleteByCalendarId(calendarId);
+        mongo.remove(new Query(where("_id").is(calendarId)), SyncCounter.class);
+    }
+
+    /**
+     * 현재 번호 기준 ETag.
+     * 방금 번호가 발급돼 아직 저장 중일 수 있는 동안(overlap)은 null → 304 를 주지 않음.
+     */
+    public String etag(String calendarId) {
+        SyncCounter counter = mongo.findById(calendarId, SyncCounter.class);
+        if (counter == null) return "\"" + calendarId + "-0\"";
+
+        if (counter.getAt() != null && counter.getAt().isAfter(LocalDateTime.now().minus(overlap))) {
+            return null;
+        }
+        return "\"" + calendarId + "-" + counter.getVersion() + "\"";
+    }
+
+    /**
+     * token 이후 변경분. token 이 없거나 잘못됐거나 너무 오래됐으면 전체 (full = true).
+     * 반환: full, eventos, deleted(id 목록), nextToken
+     */
+    public Map<String, Object> changesSince(String calendarId, String token) {
+        // 조회 전에 현재 번호 / 시각을 잡아 nextToken 으로 사용
+        SyncCounter counter = mongo.findById(calendarId, SyncCounter.class);
+        long current = counter == null ? 0 : counter.getVersion();
+        LocalDateTime now = LocalDateTime.now();
+
+        SyncToken since = decodeToken(token);
+        boolean full = since == null || since.at().isBefore(now.minus(TOMBSTONE_RETENTION));
+
+        List<Evento> eventos;
+        List<String> deleted = new ArrayList<>();
+
+        if (full) {
+            eventos = eventoRepo.findByCalendarId(calendarId);
+        } else {
+            LocalDateTime recent = since.at().minus(overlap);
+
+            eventos = eventoRepo.findChangedSince(calendarId, since.version(), recent);
+            for (EventoTombstone t : tombstoneRepo.findChangedSince(calendarId, since.version(), recent)) {
+                deleted.add(t.getId());
+            }
+        }
+
+        Map<String, Object> res = new LinkedHashMap<>();
+        res.put("ok", true);
+        res.put("full", full);
+        res.put("eventos", eventos);
+        res.put("deleted", deleted);
+        res.put("nextToken", encodeToken(current, now));
+        return res;
+    }
+
+    private SyncCounter next(String calendarId, int count) {
+        return mongo.findAndModify(
+                new Query(where("_id").is(calendarId)),
+                new Update().inc("version", count).set("at", LocalDateTime.now()),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                SyncCounter.class);
+    }
+
+    private static String encodeToken(long version, LocalDateTime at) {
+        String raw = version + "|" + at;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 token 이면 null
+    private static SyncToken decodeToken(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) return null;
+            return new SyncToken(Long.parseLong(parts[0]), LocalDateTime.parse(parts[1]));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.calendar.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 빈 시간 찾기.
+ * 바쁜 구간을 시작 시각으로 정렬해 한 번 병합한 뒤,
+ * 날짜별 근무 시간 안에서 앞에서부터 훑으며 duration 이상 비어 있는 곳을 고른다.
+ * 정렬 O(n log n) + 스윕 O(n + 일수).
+ */
+public final class FreeSlotFinder {
+
+    private FreeSlotFinder() {}
+
+    public record Slot(LocalDateTime start, LocalDateTime end) {}
+
+    /**
+     * @param busy  바쁜 구간 (정렬 / 겹침 상관없음, end 가 start 보다 빠른 구간은 무시)
+     * @param limit 최대 개수 — 빠른 순서로 반환, 각 Slot 은 [빈 구간 시작, 시작 + duration]
+     */
+    public static List<Slot> find(List<Slot> busy,
+                                  LocalDateTime from, LocalDateTime to,
+                                  Duration duration,
+                                  LocalTime workStart, LocalTime workEnd,
+                                  int limit) {
+
+        List<Slot> result = new ArrayList<>();
+        if (limit <= 0 || !from.isBefore(to) || !workStart.isBefore(workEnd)
+                || duration.isNegative() || duration.isZero()) {
+            return result;
+        }
+
+        List<Slot> merged = merge(busy);
+
+        int i = 0;
+        // 지금까지 지나온 바쁜 구간의 끝 (다음 날까지 이어지는 일정 처리용)
+        LocalDateTime busyUntil = from;
+
+        for (LocalDate day = from.toLocalDate();
+             day.atTime(workStart).isBefore(to) && result.size() < limit;
+             day = day.plusDays(1)) {
+
+            LocalDateTime dayEnd = min(day.atTime(workEnd), to);
+            LocalDateTime cursor = max(max(day.atTime(workStart), from), busyUntil);
+
+            while (cursor.isBefore(dayEnd) && result.size() < limit) {
+                Slot next = i < merged.size() ? merged.get(i) : null;
+
+                // 이미 지나간 구간
+                if (next != null && !next.end().isAfter(cursor)) {
+                    i++;
+                    continue;
+                }
+
+                // cursor 가 바쁜 구간 안 → 구간 끝으로 이동
+                if (next != null && !next.start().isAfter(cursor)) {
+                    cursor = next.end();
+                    busyUntil = next.end();
+                    i++;
+                    continue;
+                }
+
+                LocalDateTime gapEnd = next == null ? dayEnd : min(next.start(), dayEnd);
+                if (Duration.between(cursor, gapEnd).compareTo(duration) >= 0) {
+                    result.add(new Slot(cursor, cursor.plus(duration)));
+                }
+                cursor = gapEnd;
+            }
+        }
+
+        return result;
+    }
+
+    // 시작 시각 정렬 후 겹치거나 맞닿은 구간을 합침
+    static List<Slot> merge(List<Slot> busy) {
+        List<Slot> sorted = new ArrayList<>(busy.size());
+        for (Slot s : busy) {
+            if (s.start() != null && s.end() != null && s.start().isBefore(s.end())) {
+                sorted.add(s);
+            }
+        }
+        sorted.sort(Comparator.comparing(Slot::start));
+
+        List<Slot> merged = new ArrayList<>(sorted.size());
+        LocalDateTime curStart = null;
+        LocalDateTime curEnd = null;
+
+        for (Slot s : sorted) {
+            if (curEnd != null && !s.start().isAfter(curEnd)) {
+                curEnd = max(curEnd, s.end());
+            } else {
+                if (curEnd != null) merged.add(new Slot(curStart, curEnd));
+                curStart = s.start();
+                curEnd = s.end();
+            }
+        }
+        if (curEnd != null) merged.add(new Slot(curStart, curEnd));
+
+        return merged;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,329 @@
+package com.example.calendar.service;
+
+import com.example.calendar.entity.Calendar;
+import com.example.calendar.entity.Evento;
+import com.example.calendar.feed.CalendarChange;
+import com.example.calendar.ics.IcsReader;
+import com.example.calendar.ics.IcsWriter;
+import com.example.calendar.repository.CalendarRepository;
+import com.example.calendar.repository.EventoRepository;
+import com.mongodb.bulk.BulkWriteResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * .ics 가져오기 / 내보내기.
+ * 가져오기: 요청 본문을 VEVENT 단위로 읽어 ics.import.batch-size 개씩 bulk write (메모리는 batch 하나 분량).
+ *          UID 가 있는 일정은 (calendarId, UID, RECURRENCE-ID) 로 덮어써서 같은 파일을 다시 가져와도 중복되지 않음.
+ *          본문은 ics.import.max-size 까지만 읽음.
+ * 내보내기: Mongo 커서에서 읽는 대로 응답에 씀.
+ * 처리량은 응답(eventsPerSecond) / 로그 / ics.import, ics.export 타이머로 확인.
+ */
+@Service
+public class IcsService {
+
+    private static final Logger log = LoggerFactory.getLogger(IcsService.class);
+
+    @Value("${ics.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${ics.import.max-size:20MB}")
+    private DataSize maxSize;
+
+    @Autowired
+    private EventoRepository eventoRepo;
+
+    @Autowired
+    private CalendarRepository calendarRepo;
+
+    @Autowired
+    private CalendarAccess calendarAccess;
+
+    @Autowired
+    private EventSync eventSync;
+
+    @Autowired
+    private EventIntervalIndex intervalIndex;
+
+    @Autowired
+    private ApplicationEventPublisher changes;
+
+    @Autowired
+    private MeterRegistry meters;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    // 한 번의 가져오기에서 쓴 일정 수
+    private static final class Counts {
+        int created;
+        int updated;
+
+        int total() {
+            return created + updated;
+        }
+    }
+
+    // RECURRENCE-ID 로 바뀐 회차 (원래 시리즈에서 빼야 함)
+    private record Override(String uid, LocalDateTime start) {}
+
+    /* ==========================================================
+       POST /api/calendars/:id/ics — 가져오기 (editor/owner만)
+       ========================================================== */
+    public Map<String, Object> importIcs(String uid, String calendarId, InputStream body) {
+
+        boolean canEdit = calendarAccess.get(calendarId)
+                .map(a -> a.canEdit(uid))
+                .orElse(false);
+        if (!canEdit) {
+            return Map.of("ok", false, "msg", "No autorizado");
+        }
+
+        long started = System.nanoTime();
+        Counts counts = new Counts();
+        int skipped;
+        int unsupported;
+
+        InputStream limited = new LimitedInputStream(body, maxSize.toBytes());
+
+        try (IcsReader reader = new IcsReader(new InputStreamReader(limited, StandardCharsets.UTF_8))) {
+            List<Evento> batch = new ArrayList<>(batchSize);
+            Evento ev;
+
+            while ((ev = reader.next()) != null) {
+                ev.setCalendarId(calendarId);
+                ev.setUser(uid);
+                if (ev.getRecurrence() != null) {
+                    if (RecurrenceExpander.isValid(ev.getRecurrence())) RecurrenceExpander.prepare(ev);
+                    else ev.setRecurrence(null);
+                }
+
+                batch.add(ev);
+                if (batch.size() == batchSize) {
+                    write(calendarId, batch, counts);
+                }
+            }
+            write(calendarId, batch, counts);
+            skipped = reader.skipped();
+            unsupported = reader.unsupportedRules();
+
+        } catch (Exception e) {
+            log.warn("ICS import into {} failed after {} events", calendarId, counts.total(), e);
+
+            // ⭐ 앞의 batch 는 이미 저장됨 → 부분 가져오기임을 알림 (UID 가 있으면 다시 가져와도 중복 없음)
+            Map<String, Object> res = new LinkedHashMap<>();
+            res.put("ok", false);
+            String reason = e instanceof TooLargeException ? "Archivo ICS demasiado grande" : "Archivo ICS inválido";
+            res.put("msg", counts.total() > 0 ? reason + ": importación parcial" : reason);
+            res.put("partial", counts.total() > 0);
+            res.put("imported", counts.created);
+            res.put("updated", counts.updated);
+            return res;
+
+        } finally {
+            if (counts.total() > 0) {
+                intervalIndex.invalidate(calendarId);
+                changes.publishEvent(CalendarChange.calendar(calendarId, CalendarChange.EVENTS_IMPORTED, uid));
+            }
+        }
+
+        long nanos = System.nanoTime() - started;
+        meters.timer("ics.import").record(nanos, TimeUnit.NANOSECONDS);
+        meters.counter("ics.events", "direction", "import").increment(counts.total());
+
+        long rate = eventsPerSecond(counts.total(), nanos);
+        log.info("ICS import into {}: {} new, {} updated ({} skipped, {} unsupported rules) in {} ms, {} events/s",
+                calendarId, counts.created, counts.updated, skipped, unsupported, nanos / 1_000_000, rate);
+
+        Map<String, Object> res = new LinkedHashMap<>();
+        res.put("ok", true);
+        res.put("imported", counts.created);
+        res.put("updated", counts.updated);
+        res.put("skipped", skipped);
+        res.put("unsupportedRules", unsupported);   // 첫 회차만 단일 일정으로 가져옴
+        res.put("millis", nanos / 1_000_000);
+        res.put("eventsPerSecond", rate);
+        return res;
+    }
+
+    // UID 없는 일정은 insert, 있는 일정은 (calendarId, UID, RECURRENCE-ID) 로 replace + upsert
+    // 바뀐 회차(RECURRENCE-ID)는 batch 마다 처리 → 파일 전체 분량을 모아 두지 않음
+    //   시리즈가 먼저 저장돼 있으면 → 쓰고 나서 시리즈에 제외 날짜 추가 (excludeOverridden)
+    //   회차가 먼저 저장돼 있으면 → 시리즈를 쓰기 전에 제외 날짜로 넣어 둠 (includeStoredOverrides)
+    private void write(String calendarId, List<Evento> batch, Counts counts) {
+        if (batch.isEmpty()) return;
+
+        List<Override> overrides = new ArrayList<>();
+        for (Evento ev : batch) {
+            if (ev.getIcsUid() != null && ev.getIcsRecurrenceId() != null) {
+                overrides.add(new Override(ev.getIcsUid(), ev.getIcsRecurrenceId()));
+            }
+        }
+
+        includeStoredOverrides(calendarId, batch);
+        eventSync.stampAll(calendarId, batch);
+
+        // 같은 UID 가 batch 안에 두 번 있으면 뒤의 것이 남도록 순서대로
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, Evento.class);
+        for (Evento ev : batch) {
+            if (ev.getIcsUid() == null) {
+                bulk.insert(ev);
+            } else {
+                bulk.replaceOne(Query.query(Criteria.where("calendarId").is(calendarId)
+                                .and("icsUid").is(ev.getIcsUid())
+                                .and("icsRecurrenceId").is(ev.getIcsRecurrenceId())),
+                        ev, FindAndReplaceOptions.options().upsert());
+            }
+        }
+
+        BulkWriteResult result = bulk.execute();
+        counts.created += result.getInsertedCount() + result.getUpserts().size();
+        counts.updated += result.getMatchedCount();
+        batch.clear();
+
+        excludeOverridden(calendarId, overrides);
+    }
+
+    // 이전 batch (또는 이전 가져오기)에서 저장된 바뀐 회차 → 이번에 쓰는 시리즈의 제외 날짜로
+    private void includeStoredOverrides(String calendarId, List<Evento> batch) {
+        Map<String, Evento> series = new LinkedHashMap<>();
+        for (Evento ev : batch) {
+            if (ev.getIcsUid() != null && ev.getIcsRecurrenceId() == null && ev.getRecurrence() != null) {
+                series.put(ev.getIcsUid(), ev);
+            }
+        }
+        if (series.isEmpty()) return;
+
+        Query query = Query.query(Criteria.where("calendarId").is(calendarId)
+                .and("icsUid").in(series.keySet())
+                .and("icsRecurrenceId").ne(null));
+        query.fields().include("icsUid", "icsRecurrenceId");
+
+        for (Evento stored : mongoTemplate.find(query, Evento.class)) {
+            List<LocalDate> exdates = series.get(stored.getIcsUid()).getRecurrence().getExdates();
+            LocalDate day = stored.getIcsRecurrenceId().toLocalDate();
+            if (!exdates.contains(day)) exdates.add(day);
+        }
+    }
+
+    // ⭐ RECURRENCE-ID 로 따로 온 회차는 시리즈 쪽에서 제외 날짜로 (같은 회차가 두 번 보이지 않게)
+    //    바뀐 시리즈가 변경분 동기화에 잡히도록 동기화 번호도 $max 로 (EventService.excludeOccurrence 와 같게)
+    private void excludeOverridden(String calendarId, List<Override> overrides) {
+        if (overrides.isEmpty()) return;
+
+        Evento stamp = new Evento();
+        stamp.setCalendarId(calendarId);
+        eventSync.stamp(stamp);
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Evento.class);
+        for (Override o : overrides) {
+            bulk.updateOne(Query.query(Criteria.where("calendarId").is(calendarId)
+                            .and("icsUid").is(o.uid())
+                            .and("icsRecurrenceId").is(null)
+                            .and("recurrence").ne(null)),
+                    new Update()
+                            .addToSet("recurrence.exdates", o.start().toLocalDate())
+                            .max("version", stamp.getVersion())
+                            .max("updatedAt", stamp.getUpdatedAt()));
+        }
+        bulk.execute();
+    }
+
+    /* ==========================================================
+       GET /api/calendars/:id/ics — 내보내기
+       ========================================================== */
+    // 볼 수 있는 캘린더면 Calendar, 아니면 null
+    public Calendar exportable(String uid, String calendarId) {
+        boolean canView = calendarAccess.get(calendarId)
+                .map(a -> a.canView(uid))
+                .orElse(false);
+        return canView ? calendarRepo.findById(calendarId).orElse(null) : null;
+    }
+
+    public void exportIcs(Calendar cal, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        long exported = 0;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        IcsWriter ics = new IcsWriter(writer);
+        ics.begin(cal.getName());
+
+        try (Stream<Evento> eventos = eventoRepo.streamByCalendarIdIn(List.of(cal.getId()))) {
+            for (Evento ev : (Iterable<Evento>) eventos::iterator) {
+                ics.write(ev);
+                exported++;
+            }
+        }
+        ics.end();
+
+        long nanos = System.nanoTime() - started;
+        meters.timer("ics.export").record(nanos, TimeUnit.NANOSECONDS);
+        meters.counter("ics.events", "direction", "export").increment(exported);
+
+        log.info("ICS export of {}: {} events in {} ms, {} events/s",
+                cal.getId(), exported, nanos / 1_000_000, eventsPerSecond(exported, nanos));
+    }
+
+    private static long eventsPerSecond(long events, long nanos) {
+        return nanos == 0 ? 0 : events * 1_000_000_000L / nanos;
+    }
+
+    private static final class TooLargeException extends IOException {
+        TooLargeException(long limit) {
+            super("ICS body exceeds " + limit + " bytes");
+        }
+    }
+
+    // ⭐ 요청 본문을 limit 바이트까지만 읽음 (넘으면 TooLargeException, 그 전 batch 는 저장된 상태)
+    private static final class LimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private long read;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buf, int off, int len) throws IOException {
+            int n = super.read(buf, off, len);
+            if (n > 0) count(n);
+            return n;
+        }
+
+        private void count(int n) throws IOException {
+            read += n;
+            if (read > limit) throw new TooLargeException(limit);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.calendar.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * 구간 트리 (treap + 서브트리 최대 end).
+ * (start, id) 순으로 정렬, 삽입/삭제 O(log n), 겹침 조회 O(log n + 결과 수).
+ * 동기화는 호출하는 쪽에서.
+ */
+public final class IntervalTree {
+
+    private static final class Node {
+        final String id;
+        final LocalDateTime start;
+        final LocalDateTime end;
+        final int priority = ThreadLocalRandom.current().nextInt();
+
+        LocalDateTime maxEnd;
+        Node left;
+        Node right;
+
+        Node(String id, LocalDateTime start, LocalDateTime end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public void insert(String id, LocalDateTime start, LocalDateTime end) {
+        root = insert(root, new Node(id, start, end));
+        size++;
+    }
+
+    // 삽입할 때의 start 로 찾아서 삭제
+    public boolean remove(String id, LocalDateTime start) {
+        int before = size;
+        root = remove(root, id, start);
+        return size < before;
+    }
+
+    // ⭐ start < to && end > from 인 구간의 id
+    public void query(LocalDateTime from, LocalDateTime to, Consumer<String> out) {
+        query(root, from, to, out);
+    }
+
+    private Node insert(Node n, Node x) {
+        if (n == null) return x;
+
+        if (compare(x.start, x.id, n) < 0) {
+            n.left = insert(n.left, x);
+            if (n.left.priority > n.priority) n = rotateRight(n);
+        } else {
+            n.right = insert(n.right, x);
+            if (n.right.priority > n.priority) n = rotateLeft(n);
+        }
+
+        update(n);
+        return n;
+    }
+
+    private Node remove(Node n, String id, LocalDateTime start) {
+        if (n == null) return null;
+
+        int c = compare(start, id, n);
+        if (c < 0) {
+            n.left = remove(n.left, id, start);
+        } else if (c > 0) {
+            n.right = remove(n.right, id, start);
+        } else {
+            size--;
+            return merge(n.left, n.right);
+        }
+
+        update(n);
+        return n;
+    }
+
+    private void query(Node n, LocalDateTime from, LocalDateTime to, Consumer<String> out) {
+        // 서브트리 전체가 from 이전에 끝남
+        if (n == null || !n.maxEnd.isAfter(from)) return;
+
+        query(n.left, from, to, out);
+
+        // 오른쪽은 start 가 더 늦으므로 볼 필요 없음
+        if (!n.start.isBefore(to)) return;
+
+        if (n.end.isAfter(from)) out.accept(n.id);
+
+        query(n.right, from, to, out);
+    }
+
+    private static Node merge(Node a, Node b) {
+        if (a == null) return b;
+        if (b == null) return a;
+
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private static Node rotateRight(Node n) {
+        Node l = n.left;
+        n.left = l.right;
+        l.right = n;
+        update(n);
+        update(l);
+        return l;
+    }
+
+    private static Node rotateLeft(Node n) {
+        Node r = n.right;
+        n.right = r.left;
+        r.left = n;
+        update(n);
+        update(r);
+        return r;
+    }
+
+    private static void update(Node n) {
+        LocalDateTime max = n.end;
+        if (n.left != null && n.left.maxEnd.isAfter(max)) max = n.left.maxEnd;
+        if (n.right != null && n.right.maxEnd.isAfter(max)) max = n.right.maxEnd;
+        n.maxEnd = max;
+    }
+
+    private static int compare(LocalDateTime start, String id, Node n) {
+        int c = start.compareTo(n.start);
+        return c != 0 ? c : id.compareTo(n.id);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.calendar.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 캘린더 이름 검색용 n-gram (한 글자 + 두 글자).
+ * 한글은 공백 단위 text index 로는 부분 검색이 안 돼서 글자 단위로 쪼갠다.
+ * 예) "팀 회의" → [팀, 회, 의, 회의]
+ */
+public final class NameGrams {
+
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private NameGrams() {}
+
+    // 저장용: 단어별 unigram + bigram
+    public static List<String> index(String name) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(name)) {
+            for (int i = 0; i < word.length(); i++) {
+                grams.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    grams.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return new ArrayList<>(grams);
+    }
+
+    // 검색어용: 한 글자 단어는 unigram, 나머지는 bigram
+    public static List<String> query(String keyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(keyword)) {
+            if (word.length() == 1) {
+                grams.add(word);
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+        return new ArrayList<>(grams);
+    }
+
+    // 부분 일치 확인용 정규식 (단어는 escape, 사이 공백은 \s+)
+    public static String containsRegex(String keyword) {
+        return words(keyword).stream()
+                .map(Pattern::quote)
+                .collect(Collectors.joining("\\s+"));
+    }
+
+    private static List<String> words(String text) {
+        String normalized = normalize(text).trim();
+        return normalized.isEmpty() ? List.of() : List.of(SPACES.split(normalized));
+    }
+
+    private static String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.calendar.service;
+
+import com.example.calendar.entity.Calendar;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+// 시작할 때 nameGrams 가 없는 기존 캘린더를 채운다 (검색 인덱스용)
+// ⭐ _id / name 만 커서로 읽고 BATCH 개씩 $set → 메모리는 batch 하나 분량,
+//    그 사이 이름이 바뀐 캘린더(이미 nameGrams 있음)나 멤버 변경은 건드리지 않음
+@Component
+public class NameGramsBackfill implements ApplicationRunner {
+
+    private static final int BATCH = 1000;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Query missing = Query.query(Criteria.where("nameGrams").is(null));
+        missing.fields().include("name");
+
+        BulkOperations bulk = null;
+        int pending = 0;
+
+        try (Stream<Calendar> cursor = mongoTemplate.stream(missing, Calendar.class)) {
+            for (Calendar cal : (Iterable<Calendar>) cursor::iterator) {
+                if (bulk == null) bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Calendar.class);
+
+                bulk.updateOne(
+                        Query.query(Criteria.where("_id").is(cal.getId()).and("nameGrams").is(null)),
+                        new Update().set("nameGrams", NameGrams.index(cal.getName())));
+
+                if (++pending == BATCH) {
+                    bulk.execute();
+                    bulk = null;
+                    pending = 0;
+                }
+            }
+        }
+
+        if (bulk != null) bulk.execute();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.calendar.service;
+
+import com.example.calendar.entity.Calendar;
+import com.example.calendar.entity.Evento;
+import com.example.calendar.repository.ReactiveCalendarRepository;
+import com.example.calendar.repository.ReactiveEventoRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * reactive 프로필의 일정 조회 (WebFlux + reactive Mongo).
+ * 결과를 Flux 로 흘려보냄 → 클라이언트가 읽는 만큼만 Mongo 커서에서 가져옴 (backpressure).
+ * 권한은 CalendarAccess 캐시를 같이 쓰고, 캐시에 없을 때만 reactive 로 읽어서 채움.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveEventService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveEventService.class);
+
+    @Autowired
+    private ReactiveEventoRepository eventoRepo;
+
+    @Autowired
+    private ReactiveCalendarRepository calendarRepo;
+
+    @Autowired
+    private CalendarAccess calendarAccess;
+
+    // from / to 중 하나만 온 경우 열린 쪽 경계 (EventService 와 동일)
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 23, 59);
+
+    // 권한 없음 / 잘못된 기간 — msg 를 그대로 응답에 씀 (NDJSON 응답이면 status 로)
+    public static final class Rejected extends RuntimeException {
+        private final HttpStatus status;
+
+        Rejected(HttpStatus status, String msg) {
+            super(msg, null, false, false);
+            this.status = status;
+        }
+
+        public HttpStatus status() {
+            return status;
+        }
+    }
+
+    private static Rejected unauthorized() {
+        return new Rejected(HttpStatus.FORBIDDEN, "No autorizado para este calendario");
+    }
+
+    private static Rejected invalidRange() {
+        return new Rejected(HttpStatus.BAD_REQUEST, "Rango de fechas inválido");
+    }
+
+    /* ==========================================================
+       1) GET /api/events (application/json) — EventService.getEvents 와 같은 응답
+       ========================================================== */
+    public Mono<Map<String, Object>> getEvents(String uid, String calendarId,
+                                               LocalDateTime from, LocalDateTime to) {
+        return events(uid, calendarId, from, to)
+                .flatMap(Flux::collectList)
+                .map(eventos -> Map.<String, Object>of("ok", true, "eventos", eventos))
+                .onErrorResume(e -> {
+                    if (e instanceof Rejected) return Mono.just(fail(e.getMessage()));
+                    log.warn("getEvents failed", e);
+                    return Mono.just(fail("Hable con el administrador"));
+                });
+    }
+
+    /* ==========================================================
+       1-1) GET /api/events (application/x-ndjson) — 반복 일정은 회차로 펼쳐서 하나씩
+            ⭐ 권한 / 기간 확인이 끝나면 Flux 를 내보냄 → 응답을 쓰기 전에 Rejected 를 처리할 수 있음
+       ========================================================== */
+    public Mono<Flux<Evento>> events(String uid, String calendarId,
+                                     LocalDateTime from, LocalDateTime to) {
+
+        return targetCalendarIds(uid, calendarId, from, to).map(ids -> {
+            if (from == null && to == null) {
+                return eventoRepo.findByCalendarIdIn(ids)
+                        .concatMapIterable(ev -> ev.getRecurrence() == null
+                                ? List.of(ev)
+                                : RecurrenceExpander.expand(ev, null, null, RecurrenceExpander.MAX_OCCURRENCES));
+            }
+
+            LocalDateTime rangeFrom = from == null ? MIN_DATE : from;
+            LocalDateTime rangeTo = to == null ? MAX_DATE : to;
+
+            // ⭐ 단일 일정 → 반복 일정 회차 순서 (EventService.loadWindow 와 같은 쿼리)
+            return Flux.concat(
+                    eventoRepo.findByCalendarIdInAndRecurrenceIsNullAndStartLessThanAndEndGreaterThan(
+                            ids, rangeTo, rangeFrom),
+                    eventoRepo.findByCalendarIdInAndRecurrenceIsNotNullAndStartLessThanAndRecurrenceSeriesEndGreaterThan(
+                                    ids, rangeTo, rangeFrom)
+                            .concatMapIterable(series -> RecurrenceExpander.expand(
+                                    series, rangeFrom, rangeTo, RecurrenceExpander.MAX_OCCURRENCES)));
+        });
+    }
+
+    /* ==========================================================
+       1-2) GET /api/events/stream — 반복 일정은 시리즈 문서 그대로
+       ========================================================== */
+    public Mono<Flux<Evento>> stream(String uid, String calendarId,
+                                     LocalDateTime from, LocalDateTime to) {
+
+        return targetCalendarIds(uid, calendarId, from, to).map(ids -> {
+            if (from == null && to == null) {
+                return eventoRepo.findByCalendarIdIn(ids);
+            }
+            return eventoRepo.findWindow(ids,
+                    from == null ? MIN_DATE : from,
+                    to == null ? MAX_DATE : to);
+        });
+    }
+
+
+    // 조회 대상 캘린더 id 목록 (권한이 없거나 기간이 잘못되면 Rejected)
+    private Mono<List<String>> targetCalendarIds(String uid, String calendarId,
+                                                 LocalDateTime from, LocalDateTime to) {
+        if ((from != null || to != null)
+                && !(from == null ? MIN_DATE : from).isBefore(to == null ? MAX_DATE : to)) {
+            return Mono.error(invalidRange());
+        }
+
+        if (calendarId != null) {
+            return access(calendarId)
+                    .filter(a -> a.canView(uid))
+                    .map(a -> List.of(calendarId))
+                    .switchIfEmpty(Mono.error(unauthorized()));
+        }
+
+        // owner 또는 member (인덱스 조회, _id 만)
+        return calendarRepo.findIdsByOwnerOrMember(uid)
+                .map(Calendar::getId)
+                .collectList();
+    }
+
+    // 캐시에 없으면 reactive 로 읽어서 채움 (읽는 중 invalidate 되면 캐시에 남지 않음)
+    //  — 공유하는 읽기이므로 한 구독자가 취소해도 취소하지 않음
+    private Mono<CalendarAccess.Access> access(String calendarId) {
+        return Mono.fromFuture(() -> calendarAccess.getAsync(calendarId,
+                id -> calendarRepo.findAccessById(id).toFuture()), true);
+    }
+
+    private static Map<String, Object> fail(String msg) {
+        return Map.of("ok", false, "msg", msg);
+    }
+}
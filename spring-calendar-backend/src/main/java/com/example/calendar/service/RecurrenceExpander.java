@@ -0,0 +1,172 @@
+package com.example.calendar.service;
+
+import com.example.calendar.entity.Evento;
+import com.example.calendar.entity.Recurrence;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 반복 일정(Recurrence) 계산.
+ * 저장은 시리즈 문서 하나, 조회 시 요청 기간 안의 회차만 펼친다.
+ * 펼친 회차는 각자 id (시리즈 id + 회차 시작) 를 가지므로 회차 하나만 수정 / 삭제할 수 있다.
+ */
+public final class RecurrenceExpander {
+
+    // 기간 없이 조회하거나 기간이 아주 길 때 시리즈당 최대 회차
+    public static final int MAX_OCCURRENCES = 1000;
+
+    // until / count 가 없는 시리즈의 seriesEnd
+    static final LocalDateTime OPEN_END = LocalDateTime.of(9999, 12, 31, 23, 59);
+
+    private static final Set<String> FREQS = Set.of("daily", "weekly", "monthly");
+
+    // 회차 id = <시리즈 id>_<회차 시작>
+    private static final DateTimeFormatter OCCURRENCE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    /** 회차 id 를 나눈 값 */
+    public record OccurrenceRef(String seriesId, LocalDateTime start) {}
+
+    private RecurrenceExpander() {}
+
+    public static String occurrenceId(String seriesId, LocalDateTime start) {
+        return seriesId + "_" + OCCURRENCE_FORMAT.format(start);
+    }
+
+    // ⭐ 회차 id 가 아니면 null (일반 일정 / 시리즈 id)
+    public static OccurrenceRef parseOccurrenceId(String id) {
+        if (id == null) return null;
+
+        int sep = id.lastIndexOf('_');
+        if (sep <= 0) return null;
+
+        try {
+            return new OccurrenceRef(id.substring(0, sep),
+                    LocalDateTime.parse(id.substring(sep + 1), OCCURRENCE_FORMAT));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    public static boolean isValid(Recurrence r) {
+        return r != null
+                && FREQS.contains(r.getFreq())
+                && r.getInterval() >= 1
+                && (r.getCount() == null || r.getCount() >= 1);
+    }
+
+    // ⭐ 저장 전 호출: 기간 조회용 seriesEnd 계산
+    public static void prepare(Evento series) {
+        Recurrence r = series.getRecurrence();
+        if (r == null) return;
+
+        Duration d = duration(series);
+
+        if (r.getCount() != null) {
+            r.setSeriesEnd(occurrence(series.getStart(), r, r.getCount() - 1).plus(d));
+        } else if (r.getUntil() != null) {
+            r.setSeriesEnd(r.getUntil().plus(d));
+        } else {
+            r.setSeriesEnd(OPEN_END);
+        }
+    }
+
+    // ⭐ [from, to) 와 겹치는 회차만 생성 (from/to 가 null 이면 열린 구간)
+    public static List<Evento> expand(Evento series, LocalDateTime from, LocalDateTime to, int max) {
+        Recurrence r = series.getRecurrence();
+        Duration d = duration(series);
+        List<Evento> out = new ArrayList<>();
+
+        long first = from == null ? 0 : firstIndex(series.getStart(), r, from.minus(d));
+
+        for (long i = first; out.size() < max; i++) {
+            if (r.getCount() != null && i >= r.getCount()) break;
+
+            LocalDateTime start = occurrence(series.getStart(), r, i);
+            if (r.getUntil() != null && start.isAfter(r.getUntil())) break;
+            if (to != null && !start.isBefore(to)) break;
+
+            LocalDateTime end = start.plus(d);
+            if (from != null && !end.isAfter(from)) continue;
+            if (r.getExdates() != null && r.getExdates().contains(start.toLocalDate())) continue;
+
+            out.add(copy(series, start, end));
+        }
+
+        return out;
+    }
+
+    // 해당 시각에 시작하는 회차가 있고 제외 날짜가 아닌지
+    public static boolean isActiveOccurrence(Evento series, LocalDateTime start) {
+        Recurrence r = series.getRecurrence();
+        return r != null
+                && occursAt(series, start)
+                && (r.getExdates() == null || !r.getExdates().contains(start.toLocalDate()));
+    }
+
+    // 해당 시각에 시작하는 회차가 있는지 (제외 날짜는 고려하지 않음)
+    public static boolean occursAt(Evento series, LocalDateTime start) {
+        Recurrence r = series.getRecurrence();
+        if (start.isBefore(series.getStart())) return false;
+
+        for (long i = firstIndex(series.getStart(), r, start); ; i++) {
+            if (r.getCount() != null && i >= r.getCount()) return false;
+
+            LocalDateTime s = occurrence(series.getStart(), r, i);
+            if (r.getUntil() != null && s.isAfter(r.getUntil())) return false;
+            if (s.equals(start)) return true;
+            if (s.isAfter(start)) return false;
+        }
+    }
+
+    private static LocalDateTime occurrence(LocalDateTime first, Recurrence r, long i) {
+        long step = i * r.getInterval();
+        switch (r.getFreq()) {
+            case "daily":   return first.plusDays(step);
+            case "monthly": return first.plusMonths(step);
+            default:        return first.plusWeeks(step);
+        }
+    }
+
+    // bound 직전 회차 인덱스 (처음부터 세지 않고 바로 건너뜀)
+    private static long firstIndex(LocalDateTime first, Recurrence r, LocalDateTime bound) {
+        if (!bound.isAfter(first)) return 0;
+
+        ChronoUnit unit;
+        switch (r.getFreq()) {
+            case "daily":   unit = ChronoUnit.DAYS; break;
+            case "monthly": unit = ChronoUnit.MONTHS; break;
+            default:        unit = ChronoUnit.WEEKS;
+        }
+
+        return Math.max(0, unit.between(first, bound) / r.getInterval() - 1);
+    }
+
+    private static Duration duration(Evento ev) {
+        return ev.getEnd() == null ? Duration.ZERO : Duration.between(ev.getStart(), ev.getEnd());
+    }
+
+    private static Evento copy(Evento series, LocalDateTime start, LocalDateTime end) {
+        Evento ev = new Evento();
+        ev.setId(occurrenceId(series.getId(), start));
+        ev.setSeriesId(series.getId());
+        ev.setOccurrenceStart(start);
+        ev.setTitle(series.getTitle());
+        ev.setNotes(series.getNotes());
+        ev.setUser(series.getUser());
+        ev.setCalendarId(series.getCalendarId());
+        ev.setColor(series.getColor());
+        ev.setRecurrence(series.getRecurrence());
+        ev.setVersion(series.getVersion());
+        ev.setUpdatedAt(series.getUpdatedAt());
+        ev.setStart(start);
+        ev.setEnd(end);
+        return ev;
+    }
+}
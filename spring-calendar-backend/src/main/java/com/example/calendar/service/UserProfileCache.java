@@ -0,0 +1,61 @@
+package com.example.calendar.service;
+
+import com.example.calendar.dto.UserProfile;
+import com.example.calendar.repository.UsuarioRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 id → 이름/이메일 캐시.
+ * 없는 id 만 모아서 한 번의 $in 쿼리(id/name/email 만)로 채운다.
+ * 사용자 정보를 바꾸는 API 가 없으므로 따로 비우지 않음 → DB 에서 직접 바꾼 이름/이메일은 users.profile-cache.ttl 뒤에 반영.
+ * 없는 id 는 담지 않으므로 새로 가입한 사용자는 바로 보임.
+ */
+@Component
+public class UserProfileCache {
+
+    @Value("${users.profile-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${users.profile-cache.ttl:10m}")
+    private Duration ttl;
+
+    @Autowired
+    private UsuarioRepository usuarioRepo;
+
+    @Autowired
+    private MeterRegistry meters;
+
+    private Cache<String, UserProfile> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meters, cache, "users.profile");
+    }
+
+    // ⭐ 존재하는 사용자만 담긴 맵 (id → profile)
+    public Map<String, UserProfile> getAll(Collection<String> ids) {
+        return cache.getAll(ids, missing -> usuarioRepo.findProfilesByIdIn(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(
+                        u -> u.getId(),
+                        u -> new UserProfile(u.getId(), u.getName(), u.getEmail()))));
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.calendar.ics;
+
+import com.example.calendar.entity.Evento;
+import com.example.calendar.entity.Recurrence;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IcsRoundTripTest {
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+	private static String write(Evento... events) throws IOException {
+		StringWriter out = new StringWriter();
+		IcsWriter writer = new IcsWriter(out, SEOUL);
+		writer.begin("테스트");
+		for (Evento ev : events) writer.write(ev);
+		writer.end();
+		return out.toString();
+	}
+
+	private static List<Evento> read(String ics) throws IOException {
+		try (IcsReader reader = new IcsReader(new StringReader(ics), SEOUL)) {
+			List<Evento> out = new ArrayList<>();
+			Evento ev;
+			while ((ev = reader.next()) != null) out.add(ev);
+			return out;
+		}
+	}
+
+	private static IcsReader reader(String... eventLines) {
+		StringBuilder sb = new StringBuilder("BEGIN:VCALENDAR\r\n");
+		for (String line : eventLines) sb.append(line).append("\r\n");
+		sb.append("END:VCALENDAR\r\n");
+		return new IcsReader(new StringReader(sb.toString()), SEOUL);
+	}
+
+	private static Evento single(IcsReader reader) throws IOException {
+		try (reader) {
+			Evento ev = reader.next();
+			assertNotNull(ev);
+			assertNull(reader.next());
+			return ev;
+		}
+	}
+
+	private static Evento event(String title, LocalDateTime start, int minutes) {
+		Evento ev = new Evento();
+		ev.setId("ev1");
+		ev.setTitle(title);
+		ev.setStart(start);
+		ev.setEnd(start.plusMinutes(minutes));
+		return ev;
+	}
+
+	@Test
+	void longTextIsFoldedAndEscapedThenReadBack() throws IOException {
+		String title = "주간 회의; 안건, 정리\\메모 ".repeat(10) + "😀";
+		Evento ev = event(title, LocalDateTime.of(2024, 3, 4, 10, 0), 60);
+		ev.setNotes("첫 줄\n둘째 줄, 세미콜론;");
+
+		String ics = write(ev);
+		for (String line : ics.split("\r\n")) {
+			assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, "line too long: " + line);
+		}
+
+		Evento back = read(ics).get(0);
+		assertEquals(title, back.getTitle());
+		assertEquals(ev.getNotes(), back.getNotes());
+		assertEquals(ev.getStart(), back.getStart());
+		assertEquals(ev.getEnd(), back.getEnd());
+		assertEquals("ev1@spring-calendar", back.getIcsUid());
+	}
+
+	@Test
+	void recurrenceWithExdatesRoundTrips() throws IOException {
+		Evento ev = event("격주", LocalDateTime.of(2024, 3, 4, 10, 0), 30);
+		Recurrence r = new Recurrence();
+		r.setFreq("weekly");
+		r.setInterval(2);
+		r.setCount(5);
+		r.getExdates().add(LocalDate.of(2024, 3, 18));
+		ev.setRecurrence(r);
+
+		Recurrence back = read(write(ev)).get(0).getRecurrence();
+		assertNotNull(back);
+		assertEquals("weekly", back.getFreq());
+		assertEquals(2, back.getInterval());
+		assertEquals(5, back.getCount());
+		assertEquals(List.of(LocalDate.of(2024, 3, 18)), back.getExdates());
+	}
+
+	@Test
+	void importedUidAndRecurrenceIdAreWrittenBack() throws IOException {
+		Evento ev = event("바뀐 회차", LocalDateTime.of(2024, 3, 11, 11, 0), 30);
+		ev.setIcsUid("abc-123@google.com");
+		ev.setIcsRecurrenceId(LocalDateTime.of(2024, 3, 11, 10, 0));
+
+		Evento back = read(write(ev)).get(0);
+		assertEquals("abc-123@google.com", back.getIcsUid());
+		assertEquals(LocalDateTime.of(2024, 3, 11, 10, 0), back.getIcsRecurrenceId());
+	}
+
+	@Test
+	void foldedInputLinesAreJoined() throws IOException {
+		Evento ev = single(reader(
+				"BEGIN:VEVENT",
+				"UID:fold-1",
+				"SUMMARY:Long sum",
+				" mary with\\, comma",
+				"\tand tab fold",
+				"DTSTART:20240301T090000",
+				"END:VEVENT"));
+
+		assertEquals("Long summary with, commaand tab fold", ev.getTitle());
+		assertEquals("fold-1", ev.getIcsUid());
+	}
+
+	@Test
+	void utcAndTzidAreConvertedToServerZone() throws IOException {
+		Evento utc = single(reader(
+				"BEGIN:VEVENT",
+				"DTSTART:20240301T000000Z",
+				"DTEND:20240301T010000Z",
+				"END:VEVENT"));
+		assertEquals(LocalDateTime.of(2024, 3, 1, 9, 0), utc.getStart());
+		assertEquals(LocalDateTime.of(2024, 3, 1, 10, 0), utc.getEnd());
+
+		Evento ny = single(reader(
+				"BEGIN:VEVENT",
+				"DTSTART;TZID=America/New_York:20240301T090000",
+				"END:VEVENT"));
+		assertEquals(LocalDateTime.of(2024, 3, 1, 23, 0), ny.getStart());
+
+		Evento floating = single(reader(
+				"BEGIN:VEVENT",
+				"DTSTART;TZID=Not/AZone:20240301T090000",
+				"END:VEVENT"));
+		assertEquals(LocalDateTime.of(2024, 3, 1, 9, 0), floating.getStart());
+	}
+
+	@Test
+	void durationAndAllDayDefaults() throws IOException {
+		Evento timed = single(reader(
+				"BEGIN:VEVENT",
+				"DTSTART:20240301T090000",
+				"DURATION:PT1H30M",
+				"END:VEVENT"));
+		assertEquals(LocalDateTime.of(2024, 3, 1, 10, 30), timed.getEnd());
+
+		Evento week = single(reader(
+				"BEGIN:VEVENT",
+				"DTSTART:20240301T090000",
+				"DURATION:P1W",
+				"END:VEVENT"));
+		assertEquals(LocalDateTime.of(2024, 3, 8, 9, 0), week.getEnd());
+
+		Evento allDay = single(reader(
+				"BEGIN:VEVENT",
+				"DTSTART;VALUE=DATE:20240301",
+				"END:VEVENT"));
+		assertEquals(LocalDateTime.of(2024, 3, 2, 0, 0), allDay.getEnd());
+	}
+
+	@Test
+	void exdateListsAreRead() throws IOException {
+		Evento ev = single(reader(
+				"BEGIN:VEVENT",
+				"DTSTART:20240301T090000",
+				"RRULE:FREQ=DAILY;COUNT=5",
+				"EXDATE:20240302T090000,20240304T090000",
+				"END:VEVENT"));
+
+		assertEquals(List.of(LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 4)),
+				ev.getRecurrence().getExdates());
+	}
+
+	@Test
+	void unsupportedRulesBecomeSingleEvents() throws IOException {
+		// 2024-03-04 는 월요일
+		IcsReader reader = reader(
+				"BEGIN:VEVENT",
+				"DTSTART:20240304T090000",
+				"RRULE:FREQ=WEEKLY;BYDAY=MO,WE,FR",
+				"END:VEVENT",
+				"BEGIN:VEVENT",
+				"DTSTART:20240312T090000",
+				"RRULE:FREQ=MONTHLY;BYDAY=TU;BYSETPOS=2",
+				"END:VEVENT",
+				"BEGIN:VEVENT",
+				"DTSTART:20240131T090000",
+				"RRULE:FREQ=MONTHLY",
+				"END:VEVENT",
+				"BEGIN:VEVENT",
+				"DTSTART:20240301T090000",
+				"RRULE:FREQ=HOURLY",
+				"END:VEVENT");
+
+		try (reader) {
+			Evento ev;
+			int n = 0;
+			while ((ev = reader.next()) != null) {
+				assertNull(ev.getRecurrence());
+				n++;
+			}
+			assertEquals(4, n);
+			assertEquals(4, reader.unsupportedRules());
+		}
+	}
+
+	@Test
+	void byRulesMatchingDtstartAreKept() throws IOException {
+		IcsReader reader = reader(
+				"BEGIN:VEVENT",
+				"DTSTART:20240304T090000",
+				"RRULE:FREQ=WEEKLY;BYDAY=MO;WKST=SU",
+				"END:VEVENT",
+				"BEGIN:VEVENT",
+				"DTSTART:20240315T090000",
+				"RRULE:FREQ=YEARLY;BYMONTH=3;BYMONTHDAY=15",
+				"END:VEVENT");
+
+		try (reader) {
+			Recurrence weekly = reader.next().getRecurrence();
+			assertEquals("weekly", weekly.getFreq());
+
+			Recurrence yearly = reader.next().getRecurrence();
+			assertEquals("monthly", yearly.getFreq());
+			assertEquals(12, yearly.getInterval());
+
+			assertEquals(0, reader.unsupportedRules());
+		}
+	}
+
+	@Test
+	void eventsWithoutDtstartAreSkipped() throws IOException {
+		IcsReader reader = reader(
+				"BEGIN:VEVENT",
+				"SUMMARY:no start",
+				"END:VEVENT",
+				"BEGIN:VEVENT",
+				"DTSTART:20240301T090000",
+				"BEGIN:VALARM",
+				"DTSTART:garbage",
+				"END:VALARM",
+				"END:VEVENT");
+
+		try (reader) {
+			assertNotNull(reader.next());
+			assertNull(reader.next());
+			assertEquals(1, reader.skipped());
+		}
+	}
+}
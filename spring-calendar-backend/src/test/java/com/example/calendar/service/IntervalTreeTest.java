@@ -0,0 +1,113 @@
+package com.example.calendar.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalTreeTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+	private static LocalDateTime t(int hours) {
+		return BASE.plusHours(hours);
+	}
+
+	private static Set<String> query(IntervalTree tree, LocalDateTime from, LocalDateTime to) {
+		Set<String> out = new HashSet<>();
+		tree.query(from, to, out::add);
+		return out;
+	}
+
+	@Test
+	void touchingIntervalsDoNotOverlap() {
+		IntervalTree tree = new IntervalTree();
+		tree.insert("a", t(0), t(2));
+		tree.insert("b", t(2), t(4));
+
+		assertEquals(Set.of("a"), query(tree, t(1), t(2)));
+		assertEquals(Set.of("b"), query(tree, t(2), t(3)));
+		assertEquals(Set.of("a", "b"), query(tree, t(1), t(3)));
+		assertEquals(Set.of(), query(tree, t(4), t(5)));
+	}
+
+	@Test
+	void sameStartDifferentIdsAreKeptAndRemovedSeparately() {
+		IntervalTree tree = new IntervalTree();
+		tree.insert("a", t(0), t(1));
+		tree.insert("b", t(0), t(3));
+		assertEquals(2, tree.size());
+
+		assertTrue(tree.remove("a", t(0)));
+		assertEquals(Set.of("b"), query(tree, t(0), t(1)));
+		assertEquals(1, tree.size());
+	}
+
+	@Test
+	void removeNeedsTheInsertedStart() {
+		IntervalTree tree = new IntervalTree();
+		tree.insert("a", t(0), t(1));
+
+		assertFalse(tree.remove("a", t(5)));
+		assertFalse(tree.remove("missing", t(0)));
+		assertEquals(1, tree.size());
+	}
+
+	@Test
+	void maxEndShrinksAfterRemovingTheLongestInterval() {
+		IntervalTree tree = new IntervalTree();
+		tree.insert("long", t(0), t(1000));
+		for (int i = 0; i < 50; i++) {
+			tree.insert("s" + i, t(i), t(i + 1));
+		}
+
+		assertEquals(Set.of("long"), query(tree, t(500), t(501)));
+		assertTrue(tree.remove("long", t(0)));
+		assertEquals(Set.of(), query(tree, t(500), t(501)));
+		assertEquals(Set.of("s10"), query(tree, t(10), t(11)));
+	}
+
+	// 무작위 삽입 / 삭제 뒤 전체 탐색 결과와 비교 (회전 / maxEnd 갱신 확인)
+	@Test
+	void matchesBruteForceUnderRandomInsertsAndRemoves() {
+		Random random = new Random(42);
+		IntervalTree tree = new IntervalTree();
+		Map<String, LocalDateTime[]> live = new HashMap<>();
+		List<String> ids = new ArrayList<>();
+
+		for (int step = 0; step < 5000; step++) {
+			if (!ids.isEmpty() && random.nextInt(3) == 0) {
+				String id = ids.remove(random.nextInt(ids.size()));
+				assertTrue(tree.remove(id, live.remove(id)[0]));
+			} else {
+				String id = "e" + step;
+				LocalDateTime start = t(random.nextInt(2000));
+				LocalDateTime end = start.plusHours(random.nextInt(100));
+				tree.insert(id, start, end);
+				live.put(id, new LocalDateTime[]{start, end});
+				ids.add(id);
+			}
+
+			if (step % 50 == 0) {
+				LocalDateTime from = t(random.nextInt(2100));
+				LocalDateTime to = from.plusHours(1 + random.nextInt(200));
+
+				Set<String> expected = new HashSet<>();
+				live.forEach((id, span) -> {
+					if (span[0].isBefore(to) && span[1].isAfter(from)) expected.add(id);
+				});
+
+				assertEquals(expected, query(tree, from, to));
+				assertEquals(live.size(), tree.size());
+			}
+		}
+	}
+}
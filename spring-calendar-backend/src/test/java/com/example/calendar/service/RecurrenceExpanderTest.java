@@ -0,0 +1,156 @@
+package com.example.calendar.service;
+
+import com.example.calendar.entity.Evento;
+import com.example.calendar.entity.Recurrence;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceExpanderTest {
+
+	private static Evento series(String freq, int interval, LocalDateTime start, int minutes) {
+		Recurrence r = new Recurrence();
+		r.setFreq(freq);
+		r.setInterval(interval);
+
+		Evento ev = new Evento();
+		ev.setId("series1");
+		ev.setTitle("회의");
+		ev.setCalendarId("cal1");
+		ev.setStart(start);
+		ev.setEnd(start.plusMinutes(minutes));
+		ev.setRecurrence(r);
+		return ev;
+	}
+
+	private static List<LocalDateTime> starts(List<Evento> occurrences) {
+		return occurrences.stream().map(Evento::getStart).toList();
+	}
+
+	@Test
+	void monthlyFromMonthEndClampsWithoutDrifting() {
+		Evento ev = series("monthly", 1, LocalDateTime.of(2024, 1, 31, 9, 0), 60);
+		ev.getRecurrence().setCount(4);
+
+		assertEquals(List.of(
+				LocalDateTime.of(2024, 1, 31, 9, 0),
+				LocalDateTime.of(2024, 2, 29, 9, 0),
+				LocalDateTime.of(2024, 3, 31, 9, 0),
+				LocalDateTime.of(2024, 4, 30, 9, 0)),
+				starts(RecurrenceExpander.expand(ev, null, null, 100)));
+	}
+
+	@Test
+	void intervalSkipsPeriods() {
+		Evento ev = series("weekly", 2, LocalDateTime.of(2024, 3, 4, 10, 0), 30);
+		ev.getRecurrence().setCount(3);
+
+		assertEquals(List.of(
+				LocalDateTime.of(2024, 3, 4, 10, 0),
+				LocalDateTime.of(2024, 3, 18, 10, 0),
+				LocalDateTime.of(2024, 4, 1, 10, 0)),
+				starts(RecurrenceExpander.expand(ev, null, null, 100)));
+	}
+
+	@Test
+	void countLimitsOccurrencesAndSeriesEnd() {
+		Evento ev = series("daily", 1, LocalDateTime.of(2024, 5, 1, 8, 0), 90);
+		ev.getRecurrence().setCount(5);
+		RecurrenceExpander.prepare(ev);
+
+		List<Evento> all = RecurrenceExpander.expand(ev, null, null, 100);
+		assertEquals(5, all.size());
+		assertEquals(LocalDateTime.of(2024, 5, 5, 9, 30), ev.getRecurrence().getSeriesEnd());
+		assertEquals(ev.getRecurrence().getSeriesEnd(), all.get(4).getEnd());
+	}
+
+	@Test
+	void untilIsInclusive() {
+		Evento ev = series("daily", 1, LocalDateTime.of(2024, 5, 1, 8, 0), 60);
+		ev.getRecurrence().setUntil(LocalDateTime.of(2024, 5, 3, 8, 0));
+		RecurrenceExpander.prepare(ev);
+
+		assertEquals(3, RecurrenceExpander.expand(ev, null, null, 100).size());
+		assertEquals(LocalDateTime.of(2024, 5, 3, 9, 0), ev.getRecurrence().getSeriesEnd());
+	}
+
+	@Test
+	void openSeriesUsesOpenEndAndMax() {
+		Evento ev = series("daily", 1, LocalDateTime.of(2024, 5, 1, 8, 0), 60);
+		RecurrenceExpander.prepare(ev);
+
+		assertEquals(RecurrenceExpander.OPEN_END, ev.getRecurrence().getSeriesEnd());
+		assertEquals(10, RecurrenceExpander.expand(ev, null, null, 10).size());
+	}
+
+	@Test
+	void exdatesAreSkipped() {
+		Evento ev = series("daily", 1, LocalDateTime.of(2024, 5, 1, 8, 0), 60);
+		ev.getRecurrence().setCount(4);
+		ev.getRecurrence().getExdates().add(LocalDate.of(2024, 5, 2));
+
+		assertEquals(List.of(
+				LocalDateTime.of(2024, 5, 1, 8, 0),
+				LocalDateTime.of(2024, 5, 3, 8, 0),
+				LocalDateTime.of(2024, 5, 4, 8, 0)),
+				starts(RecurrenceExpander.expand(ev, null, null, 100)));
+		assertFalse(RecurrenceExpander.isActiveOccurrence(ev, LocalDateTime.of(2024, 5, 2, 8, 0)));
+		assertTrue(RecurrenceExpander.isActiveOccurrence(ev, LocalDateTime.of(2024, 5, 3, 8, 0)));
+	}
+
+	@Test
+	void windowIncludesOccurrenceOverlappingFrom() {
+		Evento ev = series("weekly", 1, LocalDateTime.of(2024, 1, 1, 23, 0), 120);
+
+		// 1/8 23:00 ~ 1/9 01:00 회차가 1/9 00:00 부터의 기간과 겹침
+		List<Evento> occ = RecurrenceExpander.expand(ev,
+				LocalDateTime.of(2024, 1, 9, 0, 0), LocalDateTime.of(2024, 1, 16, 0, 0), 100);
+
+		assertEquals(List.of(
+				LocalDateTime.of(2024, 1, 8, 23, 0),
+				LocalDateTime.of(2024, 1, 15, 23, 0)),
+				starts(occ));
+	}
+
+	@Test
+	void occurrencesHaveDistinctIdsThatPointBackToSeries() {
+		Evento ev = series("daily", 1, LocalDateTime.of(2024, 5, 1, 8, 0), 60);
+		ev.getRecurrence().setCount(3);
+
+		List<Evento> occ = RecurrenceExpander.expand(ev, null, null, 100);
+		Set<String> ids = new HashSet<>();
+		for (Evento o : occ) {
+			ids.add(o.getId());
+			assertEquals("series1", o.getSeriesId());
+			assertEquals(o.getStart(), o.getOccurrenceStart());
+
+			RecurrenceExpander.OccurrenceRef ref = RecurrenceExpander.parseOccurrenceId(o.getId());
+			assertEquals(new RecurrenceExpander.OccurrenceRef("series1", o.getStart()), ref);
+		}
+		assertEquals(3, ids.size());
+	}
+
+	@Test
+	void plainIdsAreNotOccurrenceIds() {
+		assertNull(RecurrenceExpander.parseOccurrenceId("665f1c2ab3e4d5f6a7b8c9d0"));
+		assertNull(RecurrenceExpander.parseOccurrenceId("abc_notadate"));
+		assertNull(RecurrenceExpander.parseOccurrenceId(null));
+	}
+
+	@Test
+	void occursAtOnlyMatchesRealOccurrenceStarts() {
+		Evento ev = series("weekly", 1, LocalDateTime.of(2024, 3, 4, 10, 0), 30);
+		ev.getRecurrence().setCount(3);
+
+		assertTrue(RecurrenceExpander.occursAt(ev, LocalDateTime.of(2024, 3, 18, 10, 0)));
+		assertFalse(RecurrenceExpander.occursAt(ev, LocalDateTime.of(2024, 3, 25, 10, 0)));
+		assertFalse(RecurrenceExpander.occursAt(ev, LocalDateTime.of(2024, 3, 11, 11, 0)));
+		assertFalse(RecurrenceExpander.occursAt(ev, LocalDateTime.of(2024, 3, 1, 10, 0)));
+	}
+}